@@ -0,0 +1,25 @@
+package com.jexunit.benchmarks;
+
+import com.jexunit.core.commands.annotation.TestCommand;
+import com.jexunit.core.data.entity.TestModelBase;
+import com.jexunit.core.model.TestCase;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Test-commands used by the {@link TestCommandBenchmark}.
+ *
+ * @author fabian
+ */
+public class BenchmarkCommands {
+
+    /**
+     * sink for the test-objects, so the binding cannot be eliminated
+     */
+    static volatile Blackhole blackhole;
+
+    @TestCommand("benchmark")
+    public static void runBenchmarkCommand(final TestCase<?> testCase, final TestModelBase testObject) {
+        blackhole.consume(testObject);
+    }
+
+}
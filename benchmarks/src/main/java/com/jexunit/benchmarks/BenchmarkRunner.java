@@ -0,0 +1,27 @@
+package com.jexunit.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Main class of the benchmarks. This runs the JMH benchmarks with the allocation profiler (<code>-prof gc</code>), so
+ * the garbage produced per operation (i.e. per row) is reported next to the time. All the other JMH command line
+ * options are supported, for example <code>java -jar benchmarks.jar ExcelLoader -p rows=1000</code>.
+ *
+ * @author fabian
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
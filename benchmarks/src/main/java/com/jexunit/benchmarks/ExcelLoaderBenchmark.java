@@ -0,0 +1,96 @@
+package com.jexunit.benchmarks;
+
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.dataprovider.ExcelLoader;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for loading the excel-files ({@link ExcelLoader#loadTestData(String, boolean)}, reading the workbook and
+ * parsing the test-cases) at several workbook sizes, via DOM and streaming.
+ *
+ * @author fabian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExcelLoaderBenchmark {
+
+    /**
+     * number of test-cases (rows) per worksheet
+     */
+    @Param({"100", "1000", "10000"})
+    public int rows;
+
+    @Param({"1", "10"})
+    public int worksheets;
+
+    @Param({"false", "true"})
+    public boolean streaming;
+
+    private File excelFile;
+
+    @Setup(Level.Trial)
+    public void createExcelFile() throws Exception {
+        JExUnitConfig.init();
+        JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.EXCEL_STREAMING.getKey(), String.valueOf(streaming));
+
+        final XSSFWorkbook workbook = new XSSFWorkbook();
+        for (int s = 0; s < worksheets; s++) {
+            final XSSFSheet sheet = workbook.createSheet("sheet" + s);
+            XSSFRow row = sheet.createRow(0);
+            row.createCell(0).setCellValue("command");
+            row.createCell(1).setCellValue("param1");
+            row.createCell(2).setCellValue("param2");
+            row.createCell(3).setCellValue("result");
+            row.createCell(4).setCellValue("comment");
+            for (int i = 1; i <= rows; i++) {
+                row = sheet.createRow(i);
+                row.createCell(0).setCellValue("add");
+                row.createCell(1).setCellValue(i);
+                row.createCell(2).setCellValue(i * 0.5);
+                row.createCell(3).setCellValue(i * 1.5);
+                row.createCell(4).setCellValue("row " + i);
+            }
+        }
+
+        excelFile = File.createTempFile("jexunit-benchmark", ".xlsx");
+        try (final OutputStream out = new FileOutputStream(excelFile)) {
+            workbook.write(out);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteExcelFile() {
+        excelFile.delete();
+    }
+
+    @Benchmark
+    public Collection<Object[]> loadTestData() throws Exception {
+        return ExcelLoader.loadTestData(excelFile.getAbsolutePath(), true);
+    }
+
+}
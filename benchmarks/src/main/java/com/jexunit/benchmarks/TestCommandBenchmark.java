@@ -0,0 +1,64 @@
+package com.jexunit.benchmarks;
+
+import com.jexunit.core.JExUnitBase;
+import com.jexunit.core.commands.Command;
+import com.jexunit.core.commands.TestCommandRunner;
+import com.jexunit.core.commands.TestCommandScanner;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for dispatching the test-commands: looking up the command via
+ * {@link TestCommandScanner#getTestCommand(String, Class)} and the full round trip of
+ * {@link TestCommandRunner#runTestCommand(TestCase)} (lookup, binding the parameters and invoking the command).
+ *
+ * @author fabian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestCommandBenchmark {
+
+    private TestCommandRunner runner;
+    private TestCase<?> testCase;
+
+    @Setup
+    public void prepare(final Blackhole blackhole) throws Exception {
+        TestCommandScanner.scan();
+        BenchmarkCommands.blackhole = blackhole;
+        runner = new TestCommandRunner(new JExUnitBase());
+
+        testCase = new TestCase<>();
+        testCase.setTestCommand("benchmark");
+        testCase.getValues().put("intAttr", new TestCell(2, "5"));
+        testCase.getValues().put("stringAttr", new TestCell(3, "Test String"));
+        testCase.getValues().put("subEntityAttr.intAttr", new TestCell(4, "38"));
+    }
+
+    @Benchmark
+    public Command getTestCommand() {
+        return TestCommandScanner.getTestCommand(testCase.getNormalizedTestCommand(), null);
+    }
+
+    @Benchmark
+    public void runTestCommand() throws Exception {
+        runner.runTestCommand(testCase);
+    }
+
+}
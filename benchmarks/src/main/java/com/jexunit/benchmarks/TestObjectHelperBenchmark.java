@@ -0,0 +1,72 @@
+package com.jexunit.benchmarks;
+
+import com.jexunit.core.data.TestObjectHelper;
+import com.jexunit.core.data.entity.TestModelBase;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for binding the values of a test-case to the test-objects ({@link TestObjectHelper#createObject}), from
+ * flat attributes to nested entities and lists of entities.
+ *
+ * @author fabian
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestObjectHelperBenchmark {
+
+    private TestCase<?> flat;
+    private TestCase<?> nested;
+
+    @Setup
+    public void prepare() {
+        flat = new TestCase<>();
+        putFlatValues(flat);
+
+        nested = new TestCase<>();
+        putFlatValues(nested);
+        nested.getValues().put("subEntityAttr.stringAttr", new TestCell(7, "sub entity test string"));
+        nested.getValues().put("subEntityAttr.intAttr", new TestCell(8, "38"));
+        nested.getValues().put("subEntityAttr.boolAttr", new TestCell(9, "true"));
+        nested.getValues().put("subEntityAttr.enumAttr", new TestCell(10, "TYPE_C"));
+        nested.getValues().put("subEntityListAttr[0].intAttr", new TestCell(11, "1"));
+        nested.getValues().put("subEntityListAttr[1].intAttr", new TestCell(12, "2"));
+        nested.getValues().put("subEntityListAttr[0].boolAttr", new TestCell(13, "true"));
+    }
+
+    private void putFlatValues(final TestCase<?> testCase) {
+        testCase.getValues().put("intAttr", new TestCell(1, "5"));
+        testCase.getValues().put("doubleAttr", new TestCell(2, "3.21"));
+        testCase.getValues().put("stringAttr", new TestCell(3, "Test String"));
+        testCase.getValues().put("booleanAttr", new TestCell(4, "true"));
+        testCase.getValues().put("stringAttr2", new TestCell(5, "second test string"));
+        testCase.getValues().put("enumAttr", new TestCell(6, "TYPE_B"));
+    }
+
+    @Benchmark
+    public TestModelBase createObject_flat() throws Exception {
+        return TestObjectHelper.createObject(flat, TestModelBase.class);
+    }
+
+    @Benchmark
+    public TestModelBase createObject_nested() throws Exception {
+        return TestObjectHelper.createObject(nested, TestModelBase.class);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.jexunit.core;
 
+import com.jexunit.core.commands.BenchmarkResult;
 import com.jexunit.core.commands.DefaultCommands;
 import com.jexunit.core.commands.TestCommandRunner;
 import com.jexunit.core.commands.validation.CommandValidator;
@@ -15,8 +16,15 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
 
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -98,99 +106,350 @@ public class JExUnitBase {
 
         log.log(Level.INFO, "Running TestCase: {0}", testCases.get(0).getMetadata().getTestGroup());
         // FIXME: fastFail only current TestGroup?
-        testCaseLoop:
-        for (final TestCase<?> testCase : testCases) {
-            final boolean exceptionExpected = testCase.isExceptionExpected();
-            try {
-                if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.DISABLED)
-                        .equalsIgnoreCase(testCase.getTestCommand())) {
-                    if (testCase.isDisabled()) {
-                        log.info(String.format("Testsheet disabled! (%s)",
-                                testCase.getMetadata().getDetailedIdentifier()));
-                        // if the testsheet is disabled, ignore the junit-test (assume will pass the
-                        // test)
-                        Assume.assumeTrue(String.format("Testsheet disabled! (%s)",
-                                testCase.getMetadata().getDetailedIdentifier()), true);
-                        return;
-                    }
-                } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.REPORT)
-                        .equalsIgnoreCase(testCase.getTestCommand())) {
-                    // log all the report-"values"
-                    for (final TestCell tc : testCase.getValues().values()) {
-                        log.info(tc.getValue());
-                    }
-                    // continue: there is nothing else to do; you cannot expect an exception on a
-                    // "report"-command
+        int index = -1;
+        // the end (exclusive) of the last batch run
+        int batchEnd = -1;
+        // the asynchronous test-commands in flight (in the order of the testCases)
+        final Deque<InFlightTestCase> inFlight = new ArrayDeque<>();
+        final int maxInFlight = Math.max(1, JExUnitConfig.getIntProperty(JExUnitConfig.ConfigKey.ASYNC_MAX_IN_FLIGHT));
+        try {
+            testCaseLoop:
+            for (final TestCase<?> testCase : testCases) {
+                if (++index < batchEnd) {
+                    // the testCase already ran as part of a batch
                     continue testCaseLoop;
-                } else {
-                    try {
+                }
+                final boolean exceptionExpected = testCase.isExceptionExpected();
+                long elapsed = -1L;
+                Double percentile = null;
+                try {
+                    if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.DISABLED)
+                            .equalsIgnoreCase(testCase.getTestCommand())) {
                         if (testCase.isDisabled()) {
-                            log.info(String.format("Testcase disabled! (command: %s, %s) %s", testCase.getTestCommand(),
-                                    testCase.getMetadata().getDetailedIdentifier(), testCase.getComment()));
-                            // if the testCase is disabled, ignore it (assume will pass the test)
-                            Assume.assumeTrue(
-                                    String.format("Testcase disabled! (command: %s, %s) %s", testCase.getTestCommand(),
-                                            testCase.getMetadata().getDetailedIdentifier(), testCase.getComment()),
-                                    true);
-                            continue testCaseLoop;
+                            log.info(String.format("Testsheet disabled! (%s)",
+                                    testCase.getMetadata().getDetailedIdentifier()));
+                            // if the testsheet is disabled, ignore the junit-test (assume will pass the
+                            // test)
+                            Assume.assumeTrue(String.format("Testsheet disabled! (%s)",
+                                    testCase.getMetadata().getDetailedIdentifier()), true);
+                            awaitTestCommands(inFlight, 0);
+                            return;
                         }
-                        // run the test-command
-                        testCommandRunner.runTestCommand(testCase);
-                    } catch (final AssertionError e) {
-                        if (!exceptionExpected) {
-                            errorCollector.addError(new AssertionError(String.format(
-                                    "No Exception expected in TestCommand: %s, %s. %s", testCase.getTestCommand(),
-                                    testCase.getMetadata().getDetailedIdentifier(), testCase.getComment()), e));
-                            if (testCase.isFastFail()) {
-                                fail("FastFail attribute forces the complete test sheet to fail.");
-                            }
-                        } else {
-                            continue testCaseLoop;
+                    } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.REPORT)
+                            .equalsIgnoreCase(testCase.getTestCommand())) {
+                        // log all the report-"values"
+                        for (final TestCell tc : testCase.getValues().values()) {
+                            log.info(tc.getValue());
                         }
-                    } catch (final Exception e) {
-                        Throwable t = e;
-                        while ((t = t.getCause()) != null) {
-                            if (t instanceof AssertionError) {
-                                if (!exceptionExpected) {
-                                    errorCollector.addError(new AssertionError(String.format(
-                                            "No Exception expected in TestCommand: %s, %s. %s",
-                                            testCase.getTestCommand(), testCase.getMetadata().getDetailedIdentifier(),
-                                            testCase.getComment()), t));
-                                    if (testCase.isFastFail()) {
-                                        fail("FastFail attribute forces the complete test sheet to fail.");
+                        // continue: there is nothing else to do; you cannot expect an exception on a
+                        // "report"-command
+                        continue testCaseLoop;
+                    } else if (testCase.getError() != null && !testCase.isDisabled()) {
+                        // the test-case couldn't be read completely (like an invalid value of a default command)
+                        errorCollector.addError(new AssertionError(String.format("Invalid TestCase: %s, %s. %s",
+                                testCase.getTestCommand(), testCase.getMetadata().getDetailedIdentifier(),
+                                testCase.getError())));
+                        if (testCase.isFastFail()) {
+                            fail("FastFail attribute forces the complete test sheet to fail.");
+                        }
+                        continue testCaseLoop;
+                    } else if (canOverlap(testCase) && testCommandRunner.isBatchCommand(testCase)) {
+                        // run the consecutive testCases of the same batch command at once
+                        awaitTestCommands(inFlight, 0);
+                        batchEnd = index + 1;
+                        while (batchEnd < testCases.size() && canOverlap(testCases.get(batchEnd))
+                                && testCase.getNormalizedTestCommand()
+                                .equals(testCases.get(batchEnd).getNormalizedTestCommand())) {
+                            batchEnd++;
+                        }
+                        runBatch(testCases.subList(index, batchEnd));
+                        continue testCaseLoop;
+                    } else if (canOverlap(testCase) && testCommandRunner.isAsyncCommand(testCase)) {
+                        // start the asynchronous test-command (after all the previous ones completed, if it is a
+                        // barrier)
+                        awaitTestCommands(inFlight, testCase.isBarrier() ? 0 : maxInFlight - 1);
+                        inFlight.add(new InFlightTestCase(testCase, testCommandRunner.startTestCommand(testCase)));
+                        continue testCaseLoop;
+                    } else {
+                        if (!testCase.isDisabled()) {
+                            // the synchronous test-commands run after all the asynchronous ones completed
+                            awaitTestCommands(inFlight, 0);
+                        }
+                        try {
+                            if (testCase.isDisabled()) {
+                                log.info(String.format("Testcase disabled! (command: %s, %s) %s",
+                                        testCase.getTestCommand(),
+                                        testCase.getMetadata().getDetailedIdentifier(), testCase.getComment()));
+                                // if the testCase is disabled, ignore it (assume will pass the test)
+                                Assume.assumeTrue(
+                                        String.format("Testcase disabled! (command: %s, %s) %s",
+                                                testCase.getTestCommand(),
+                                                testCase.getMetadata().getDetailedIdentifier(), testCase.getComment()),
+                                        true);
+                                continue testCaseLoop;
+                            }
+                            if (testCase.getRepeat() != null) {
+                                // run the test-command as micro-benchmark
+                                final BenchmarkResult result = testCommandRunner.runBenchmark(testCase);
+                                percentile = testCase.getPercentile() != null ? testCase.getPercentile()
+                                        : Double.parseDouble(JExUnitConfig.getStringProperty(
+                                        JExUnitConfig.ConfigKey.BENCHMARK_PERCENTILE));
+                                log.info(String.format("Benchmark of TestCommand: %s, %s: %s",
+                                        testCase.getTestCommand(),
+                                        testCase.getMetadata().getDetailedIdentifier(), result));
+                                elapsed = result.getPercentile(percentile);
+                            } else {
+                                // run the test-command (timed only, if there is a latency budget)
+                                final long start = testCase.getMaxMillis() != null ? System.nanoTime() : 0L;
+                                testCommandRunner.runTestCommand(testCase);
+                                if (testCase.getMaxMillis() != null) {
+                                    elapsed = System.nanoTime() - start;
+                                }
+                            }
+                        } catch (final AssertionError e) {
+                            if (!exceptionExpected) {
+                                errorCollector.addError(new AssertionError(String.format(
+                                        "No Exception expected in TestCommand: %s, %s. %s", testCase.getTestCommand(),
+                                        testCase.getMetadata().getDetailedIdentifier(), testCase.getComment()), e));
+                                if (testCase.isFastFail()) {
+                                    fail("FastFail attribute forces the complete test sheet to fail.");
+                                }
+                            } else {
+                                continue testCaseLoop;
+                            }
+                        } catch (final Exception e) {
+                            Throwable t = e;
+                            while ((t = t.getCause()) != null) {
+                                if (t instanceof AssertionError) {
+                                    if (!exceptionExpected) {
+                                        errorCollector.addError(new AssertionError(String.format(
+                                                "No Exception expected in TestCommand: %s, %s. %s",
+                                                testCase.getTestCommand(),
+                                                testCase.getMetadata().getDetailedIdentifier(),
+                                                testCase.getComment()), t));
+                                        if (testCase.isFastFail()) {
+                                            fail("FastFail attribute forces the complete test sheet to fail.");
+                                        }
+                                    } else {
+                                        continue testCaseLoop;
                                     }
-                                } else {
-                                    continue testCaseLoop;
                                 }
                             }
+                            e.printStackTrace();
+                            fail(String.format("Unexpected Exception thrown in TestCommand: %s, %s. (Exception: %s) %s",
+                                    testCase.getTestCommand(), testCase.getMetadata().getDetailedIdentifier(), e,
+                                    testCase.getComment()));
+                        }
+                    }
+
+                    // check the latency budget of the test-command (if it didn't fail)
+                    if (elapsed >= 0L && testCase.getMaxMillis() != null) {
+                        checkLatencyBudget(testCase, elapsed, percentile);
+                    }
+
+                    // if an exception is expected, but no exception is thrown, the test will fail!
+                    if (exceptionExpected) {
+                        errorCollector.addError(new AssertionError(
+                                String.format("Exception expected! in TestCommand: %s, %s. %s",
+                                        testCase.getTestCommand(),
+                                        testCase.getMetadata().getDetailedIdentifier(), testCase.getComment())));
+
+                        if (testCase.isFastFail()) {
+                            log.log(Level.FINE, "FastFail activated");
+                            fail("FastFail attribute forces the complete test sheet to fail.");
+                            return;
                         }
-                        e.printStackTrace();
-                        fail(String.format("Unexpected Exception thrown in TestCommand: %s, %s. (Exception: %s) %s",
-                                testCase.getTestCommand(), testCase.getMetadata().getDetailedIdentifier(), e,
+                    }
+                } catch (final Exception e) {
+                    log.log(Level.WARNING, "TestException", e);
+                    if (!exceptionExpected) {
+                        fail(String.format("Unexpected Exception thrown (%s)! in TestCommand: %s, %s. %s", e,
+                                testCase.getTestCommand(), testCase.getMetadata().getDetailedIdentifier(),
                                 testCase.getComment()));
                     }
                 }
+            }
+            awaitTestCommands(inFlight, 0);
+        } finally {
+            // the test sheet failed (fail() or fastFail): don't leave the asynchronous test-commands running
+            cancelTestCommands(inFlight);
+        }
+    }
 
-                // if an exception is expected, but no exception is thrown, the test will fail!
-                if (exceptionExpected) {
-                    errorCollector.addError(new AssertionError(
-                            String.format("Exception expected! in TestCommand: %s, %s. %s", testCase.getTestCommand(),
-                                    testCase.getMetadata().getDetailedIdentifier(), testCase.getComment())));
+    /**
+     * Check, if the testCase can run together with other testCases (as part of a batch or asynchronously). Disabled
+     * or invalid testCases and testCases measured on their own (with a latency budget or as micro-benchmark) will run
+     * on their own.
+     *
+     * @param testCase the testCase to check
+     * @return true, if the testCase can run together with other testCases, else false
+     */
+    private static boolean canOverlap(final TestCase<?> testCase) {
+        return !testCase.isDisabled() && testCase.getError() == null && testCase.getMaxMillis() == null
+                && testCase.getRepeat() == null;
+    }
 
-                    if (testCase.isFastFail()) {
-                        log.log(Level.FINE, "FastFail activated");
-                        fail("FastFail attribute forces the complete test sheet to fail.");
-                        return;
-                    }
+    /**
+     * Run the batch command for the given (consecutive) testCases and check the results per testCase. The failures
+     * will be added to the error collector with the metadata of the failing testCase.
+     *
+     * @param batch the testCases of the batch
+     * @throws Exception in case that something goes wrong running the batch
+     */
+    private void runBatch(final List<TestCase<?>> batch) throws Exception {
+        log.log(Level.FINE, "Running batch of {0} TestCases for TestCommand: {1}",
+                new Object[]{batch.size(), batch.get(0).getTestCommand()});
+        final List<Throwable> failures = testCommandRunner.runBatchTestCommand(batch);
+        boolean fastFail = false;
+        for (int i = 0; i < batch.size(); i++) {
+            final TestCase<?> testCase = batch.get(i);
+            final Throwable failure = failures.get(i);
+            if (failure == null && testCase.isExceptionExpected()) {
+                // if an exception is expected, but no exception is thrown, the testCase failed
+                errorCollector.addError(new AssertionError(
+                        String.format("Exception expected! in TestCommand: %s, %s. %s", testCase.getTestCommand(),
+                                testCase.getMetadata().getDetailedIdentifier(), testCase.getComment())));
+            } else if (failure != null && !testCase.isExceptionExpected()) {
+                Throwable t = failure;
+                while (t != null && !(t instanceof AssertionError)) {
+                    t = t.getCause();
+                }
+                if (t != null) {
+                    errorCollector.addError(new AssertionError(String.format(
+                            "No Exception expected in TestCommand: %s, %s. %s", testCase.getTestCommand(),
+                            testCase.getMetadata().getDetailedIdentifier(), testCase.getComment()), t));
+                } else {
+                    errorCollector.addError(new AssertionError(String.format(
+                            "Unexpected Exception thrown in TestCommand: %s, %s. (Exception: %s) %s",
+                            testCase.getTestCommand(), testCase.getMetadata().getDetailedIdentifier(), failure,
+                            testCase.getComment()), failure));
                 }
-            } catch (final Exception e) {
-                log.log(Level.WARNING, "TestException", e);
-                if (!exceptionExpected) {
-                    fail(String.format("Unexpected Exception thrown (%s)! in TestCommand: %s, %s. %s", e,
-                            testCase.getTestCommand(), testCase.getMetadata().getDetailedIdentifier(),
-                            testCase.getComment()));
+            } else {
+                continue;
+            }
+            fastFail |= testCase.isFastFail();
+        }
+        if (fastFail) {
+            fail("FastFail attribute forces the complete test sheet to fail.");
+        }
+    }
+
+    /**
+     * Wait for the oldest asynchronous test-commands in flight until there are not more than the given number left
+     * and check their results (in the order of the testCases).
+     *
+     * @param inFlight the asynchronous test-commands in flight
+     * @param limit    the number of test-commands allowed to stay in flight
+     */
+    private void awaitTestCommands(final Deque<InFlightTestCase> inFlight, final int limit) {
+        while (inFlight.size() > limit) {
+            checkAsyncResult(inFlight.poll());
+        }
+    }
+
+    /**
+     * Cancel the asynchronous test-commands still in flight. After the test sheet completed regularly, there are none
+     * left.
+     *
+     * @param inFlight the asynchronous test-commands in flight
+     */
+    private static void cancelTestCommands(final Deque<InFlightTestCase> inFlight) {
+        InFlightTestCase inFlightTestCase;
+        while ((inFlightTestCase = inFlight.poll()) != null) {
+            inFlightTestCase.future.cancel(true);
+        }
+    }
+
+    /**
+     * Wait for the asynchronous test-command and check its result like the one of a synchronous test-command. The wait
+     * is bounded by the configured timeout (see {@link JExUnitConfig.ConfigKey#ASYNC_TIMEOUT}); a test-command not
+     * completing in time fails the row.
+     *
+     * @param inFlightTestCase the asynchronous test-command
+     */
+    private void checkAsyncResult(final InFlightTestCase inFlightTestCase) {
+        final TestCase<?> testCase = inFlightTestCase.testCase;
+        final int timeout = JExUnitConfig.getIntProperty(JExUnitConfig.ConfigKey.ASYNC_TIMEOUT);
+        Throwable failure = null;
+        try {
+            if (timeout > 0) {
+                inFlightTestCase.future.get(timeout, TimeUnit.SECONDS);
+            } else {
+                inFlightTestCase.future.get();
+            }
+        } catch (final ExecutionException e) {
+            failure = e.getCause() != null ? e.getCause() : e;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        } catch (final TimeoutException e) {
+            inFlightTestCase.future.cancel(true);
+            errorCollector.addError(new AssertionError(String.format(
+                    "Asynchronous TestCommand: %s, %s did not complete within %d s. %s", testCase.getTestCommand(),
+                    testCase.getMetadata().getDetailedIdentifier(), timeout, testCase.getComment()), e));
+            if (testCase.isFastFail()) {
+                fail("FastFail attribute forces the complete test sheet to fail.");
+            }
+            return;
+        }
+
+        if (failure == null) {
+            // if an exception is expected, but no exception is thrown, the test will fail!
+            if (testCase.isExceptionExpected()) {
+                errorCollector.addError(new AssertionError(
+                        String.format("Exception expected! in TestCommand: %s, %s. %s", testCase.getTestCommand(),
+                                testCase.getMetadata().getDetailedIdentifier(), testCase.getComment())));
+                if (testCase.isFastFail()) {
+                    fail("FastFail attribute forces the complete test sheet to fail.");
                 }
             }
+            return;
+        } else if (testCase.isExceptionExpected()) {
+            return;
+        }
+
+        Throwable t = failure;
+        while (t != null && !(t instanceof AssertionError)) {
+            t = t.getCause();
+        }
+        if (t != null) {
+            errorCollector.addError(new AssertionError(String.format(
+                    "No Exception expected in TestCommand: %s, %s. %s", testCase.getTestCommand(),
+                    testCase.getMetadata().getDetailedIdentifier(), testCase.getComment()), t));
+            if (testCase.isFastFail()) {
+                fail("FastFail attribute forces the complete test sheet to fail.");
+            }
+        } else {
+            log.log(Level.WARNING, "TestException", failure);
+            fail(String.format("Unexpected Exception thrown in TestCommand: %s, %s. (Exception: %s) %s",
+                    testCase.getTestCommand(), testCase.getMetadata().getDetailedIdentifier(), failure,
+                    testCase.getComment()));
+        }
+    }
+
+    /**
+     * Check the duration of the test-command against the latency budget of the test-case (the <i>maxMillis</i>
+     * parameter). If the budget is exceeded, an error will be added to the error collector.
+     *
+     * @param testCase   the test-case run
+     * @param elapsed    the duration of the test-command in nanoseconds
+     * @param percentile the percentile of the repeated invocations the duration represents, <code>null</code> for a
+     *                   single invocation
+     */
+    private void checkLatencyBudget(final TestCase<?> testCase, final long elapsed, final Double percentile) {
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        if (elapsedMillis > testCase.getMaxMillis()) {
+            final String measure = percentile != null
+                    ? String.format("p%s of %d runs", BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString(),
+                    testCase.getRepeat())
+                    : "duration";
+            errorCollector.addError(new AssertionError(String.format(
+                    "Latency budget exceeded in TestCommand: %s, %s. (%s %d ms > maxMillis %d ms) %s",
+                    testCase.getTestCommand(), testCase.getMetadata().getDetailedIdentifier(), measure,
+                    elapsedMillis, testCase.getMaxMillis(), testCase.getComment())));
+            if (testCase.isFastFail()) {
+                fail("FastFail attribute forces the complete test sheet to fail.");
+            }
         }
     }
 
@@ -210,6 +469,20 @@ public class JExUnitBase {
                 testCase.getTestCommand())));
     }
 
+    /**
+     * An asynchronous test-command in flight.
+     */
+    private static final class InFlightTestCase {
+
+        private final TestCase<?> testCase;
+        private final CompletableFuture<?> future;
+
+        InFlightTestCase(final TestCase<?> testCase, final CompletableFuture<?> future) {
+            this.testCase = testCase;
+            this.future = future;
+        }
+    }
+
     @BeforeClass
     public static void initialseTest() {
         // TODO: add callback?!
@@ -13,8 +13,8 @@ import java.util.logging.Logger;
 
 /**
  * JExUnit configuration. This will give access to the configuration running JExUnit. It's possible to override the
- * default configuration from a <i>"jexunit.properties"</i> file or via configuration set for example in the
- * <code>@BeforClass</code>-method of the test. The same way you can add your own/customized configuration to the
+ * default configuration via system properties (<code>-Djexunit.xyz=...</code>), from a <i>"jexunit.properties"</i>
+ * file or via configuration set for example in the <code>@BeforClass</code>-method of the test. The same way you can add your own/customized configuration to the
  * JExUnitConfig to get unified access to the whole test-configuration.<br>
  * For the internal representation <i>apache commons configuration</i> is used. So it should be easy to extend.
  *
@@ -53,12 +53,120 @@ public class JExUnitConfig {
          * postfix for test-command-methods
          */
         COMMAND_METHOD_POSTFIX("jexunit.command.method_postfix", ""),
+        /**
+         * use the index of the test commands generated at compile time (if present) instead of scanning the classpath
+         */
+        COMMAND_INDEX("jexunit.command.index", "true"),
 
         /**
          * Validation type (no validation, warn and remove invalid test commands from execution list or
          * (fast) fail on missing command implementation).
          */
-        COMMAND_VALIDATION_TYPE("jexunit.command.validation.type", ValidationType.WARN.name());
+        COMMAND_VALIDATION_TYPE("jexunit.command.validation.type", ValidationType.WARN.name()),
+
+        /**
+         * Read the excel-files event-driven (streaming) row by row instead of loading the whole workbook into memory.
+         * Formulas will not be evaluated in this mode, the (cached) results stored in the excel-file will be read.
+         */
+        EXCEL_STREAMING("jexunit.excel.streaming", "false"),
+        /**
+         * Read the (cached) results of the formulas stored in the excel-file instead of evaluating the formulas. So
+         * reading the excel-file (DOM) returns the same values as the streaming mode.
+         */
+        EXCEL_FORMULA_CACHED_RESULTS("jexunit.excel.formula.cached_results", "false"),
+        /**
+         * Discover the tests (worksheets) out of the names of the worksheets only, without reading the test data. The
+         * excel-file will be read as soon as the first of its worksheets is running, so filtered runs don't have to read
+         * the excel-files not selected.
+         */
+        EXCEL_LAZY_DISCOVERY("jexunit.excel.lazy_discovery", "false"),
+        /**
+         * Regular expressions (separated by comma) for the names of the worksheets to read. If set, this overrides
+         * {@link com.jexunit.core.dataprovider.ExcelFile#includeSheets()}. Worksheets not matching won't be parsed.
+         */
+        EXCEL_SHEETS_INCLUDE("jexunit.excel.sheets.include", ""),
+        /**
+         * Regular expressions (separated by comma) for the names of the worksheets to skip. If set, this overrides
+         * {@link com.jexunit.core.dataprovider.ExcelFile#excludeSheets()}.
+         */
+        EXCEL_SHEETS_EXCLUDE("jexunit.excel.sheets.exclude", ""),
+
+        /**
+         * Cache the parsed test data of the excel-files on disk. The cache is keyed by the content of the excel-file and
+         * the configuration affecting the parsing, so unchanged excel-files don't have to be parsed again.
+         * <u>Attention:</u> volatile formulas (like <code>TODAY()</code>) will not be re-evaluated on a cache hit.
+         */
+        EXCEL_CACHE("jexunit.excel.cache", "false"),
+        /**
+         * directory to store the cached test data in
+         */
+        EXCEL_CACHE_DIRECTORY("jexunit.excel.cache.directory", "target/jexunit-cache"),
+
+        /**
+         * Load all the excel-files of a test-class concurrently while initializing the data provider.
+         */
+        EXCEL_PARALLEL_LOADING("jexunit.excel.parallel_loading", "false"),
+        /**
+         * maximum number of threads for loading the excel-files concurrently (0 = number of available processors)
+         */
+        EXCEL_LOADING_THREADS("jexunit.excel.loading_threads", "0"),
+
+        /**
+         * Number of threads to run the tests (worksheets) of a test-class concurrently (1 = sequential). This can be
+         * overridden per test-class via {@link com.jexunit.core.junit.JExUnitConcurrency} (0 = number of available
+         * processors).
+         */
+        CONCURRENCY_THREADS("jexunit.concurrency.threads", "1"),
+
+        /**
+         * Number of concurrent (virtual) users to run the tests as load test (overrides
+         * {@link com.jexunit.core.junit.JExUnitLoadTest#users()}, empty = not set).
+         */
+        LOAD_TEST_USERS("jexunit.loadtest.users", ""),
+        /**
+         * ramp-up time of the load test in seconds (empty = not set)
+         */
+        LOAD_TEST_RAMP_UP("jexunit.loadtest.ramp_up", ""),
+        /**
+         * duration of the load test in seconds (empty = not set)
+         */
+        LOAD_TEST_DURATION("jexunit.loadtest.duration", ""),
+        /**
+         * number of iterations per user of the load test, if no duration is set (empty = not set)
+         */
+        LOAD_TEST_ITERATIONS("jexunit.loadtest.iterations", ""),
+        /**
+         * directory to write the load test reports to
+         */
+        LOAD_TEST_DIRECTORY("jexunit.loadtest.directory", "target"),
+
+        /**
+         * default percentile of the latencies of the repeated test-commands (micro-benchmarks) to check against the
+         * latency budget (<i>maxMillis</i>)
+         */
+        BENCHMARK_PERCENTILE("jexunit.benchmark.percentile", "99"),
+
+        /**
+         * Maximum number of asynchronous test-commands (returning a CompletionStage) in flight at once per worksheet
+         * (1 = wait for each command to complete before running the next one).
+         */
+        ASYNC_MAX_IN_FLIGHT("jexunit.async.max_in_flight", "16"),
+
+        /**
+         * Maximum time (in seconds) to wait for an asynchronous test-command to complete. If the command doesn't
+         * complete in time, the row fails (0 = wait without a timeout).
+         */
+        ASYNC_TIMEOUT("jexunit.async.timeout_seconds", "300"),
+
+        /**
+         * Measure the phases of the test run (scanning, loading, validating, binding, invoking) and the latencies of
+         * the test-commands and write a report (JSON and CSV) at the end of each test-class.
+         */
+        METRICS("jexunit.metrics", "false"),
+        /**
+         * directory to write the metrics report to
+         */
+        METRICS_DIRECTORY("jexunit.metrics.directory", "target");
 
         private final String key;
         private final String defaultConfig;
@@ -109,6 +217,8 @@ public class JExUnitConfig {
         if (config == null) {
             config = new CompositeConfiguration(getDefaultConfiguration());
             config.setThrowExceptionOnMissing(false);
+            // system properties override all the other configuration
+            config.addConfiguration(new SystemConfiguration());
 
             final URL jexunitProperties = ConfigurationUtils.locate("jexunit.properties");
             if (jexunitProperties != null) {
@@ -162,6 +272,36 @@ public class JExUnitConfig {
         return config.getString(key.getKey());
     }
 
+    /**
+     * Get the configured property with the given ConfigKey as array of strings (the values are separated by comma).
+     *
+     * @param key ConfigKey
+     * @return the configured property values (an empty array, if nothing is configured)
+     */
+    public static String[] getStringArrayProperty(final ConfigKey key) {
+        return config.getStringArray(key.getKey());
+    }
+
+    /**
+     * Get the configured property with the given ConfigKey as boolean.
+     *
+     * @param key ConfigKey
+     * @return the configured property value as boolean
+     */
+    public static boolean getBooleanProperty(final ConfigKey key) {
+        return config.getBoolean(key.getKey());
+    }
+
+    /**
+     * Get the configured property with the given ConfigKey as int.
+     *
+     * @param key ConfigKey
+     * @return the configured property value as int
+     */
+    public static int getIntProperty(final ConfigKey key) {
+        return config.getInt(key.getKey());
+    }
+
     /**
      * Get the configured property (DefaultCommand) with the given key add prepend the configured prefix for the default
      * commands.
@@ -0,0 +1,58 @@
+package com.jexunit.core.commands;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exception for batch commands (see {@link com.jexunit.core.commands.annotation.TestCommand#batch()}) to attribute
+ * failures to single test-cases of the batch. The index of a failure is the index of the element in the lists passed
+ * to the batch command. The test-cases without a failure are successful.
+ *
+ * @author fabian
+ */
+public class BatchException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<Integer, Throwable> failures = new TreeMap<>();
+
+    public BatchException() {
+        super("Batch test command failed.");
+    }
+
+    public BatchException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Add the failure of a single test-case of the batch.
+     *
+     * @param index the index of the test-case (the element in the lists passed to the batch command)
+     * @param cause the failure of the test-case (for example an {@link AssertionError})
+     * @return this exception (for chaining)
+     */
+    public BatchException addFailure(final int index, final Throwable cause) {
+        failures.put(index, cause);
+        return this;
+    }
+
+    /**
+     * Get the failures of the test-cases of the batch.
+     *
+     * @return the failures per index of the test-case
+     */
+    public Map<Integer, Throwable> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Check, if there are failures.
+     *
+     * @return true, if at least one test-case of the batch failed, else false
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+}
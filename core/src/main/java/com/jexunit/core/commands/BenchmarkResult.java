@@ -0,0 +1,73 @@
+package com.jexunit.core.commands;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The latencies measured by running a test-command repeatedly as micro-benchmark (see
+ * {@link TestCommandRunner#runBenchmark(com.jexunit.core.model.TestCase)}).
+ *
+ * @author fabian
+ */
+public class BenchmarkResult {
+
+    private final long[] latencies;
+
+    /**
+     * Create the result for the given latencies.
+     *
+     * @param latencies the latencies of the invocations in nanoseconds
+     */
+    public BenchmarkResult(final long[] latencies) {
+        this.latencies = latencies.clone();
+        Arrays.sort(this.latencies);
+    }
+
+    /**
+     * Get the number of the invocations measured.
+     *
+     * @return the number of invocations
+     */
+    public int getIterations() {
+        return latencies.length;
+    }
+
+    /**
+     * Get the percentile of the latencies (nearest-rank method).
+     *
+     * @param percentile the percentile (0 - 100)
+     * @return the latency in nanoseconds or 0, if nothing was measured
+     */
+    public long getPercentile(final double percentile) {
+        if (latencies.length == 0) {
+            return 0L;
+        }
+        final int rank = (int) Math.ceil(latencies.length * Math.max(0.0, Math.min(100.0, percentile)) / 100.0);
+        return latencies[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Get the mean of the latencies.
+     *
+     * @return the mean latency in nanoseconds or 0, if nothing was measured
+     */
+    public long getMean() {
+        long total = 0L;
+        for (final long latency : latencies) {
+            total += latency;
+        }
+        return latencies.length == 0 ? 0L : total / latencies.length;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d iterations (mean: %.3f ms, p50: %.3f ms, p90: %.3f ms, p99: %.3f ms, max: %.3f ms)",
+                getIterations(), toMillis(getMean()), toMillis(getPercentile(50)), toMillis(getPercentile(90)),
+                toMillis(getPercentile(99)), toMillis(getPercentile(100)));
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.jexunit.core.commands;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang.builder.EqualsBuilder;
@@ -37,6 +38,25 @@ public class Command {
      */
     private boolean fastFail;
 
+    /**
+     * run the test command once for all the consecutive test-cases of the command (see {@link
+     * com.jexunit.core.commands.annotation.TestCommand#batch()})
+     */
+    private boolean batch;
+
+    /**
+     * the invoker for the method implementing the test command (created once per command)
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile CommandInvoker invoker;
+    /**
+     * the plan for resolving the parameters of the test command (created once per command)
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile ParameterPlan parameterPlan;
+
     public static enum Type {
         CLASS, METHOD;
     }
@@ -54,6 +74,11 @@ public class Command {
     }
 
     public Command(final String name, final Class<?> implementation, final Method method, final boolean fastFail) {
+        this(name, implementation, method, fastFail, false);
+    }
+
+    public Command(final String name, final Class<?> implementation, final Method method, final boolean fastFail,
+                   final boolean batch) {
         this.name = name;
         this.implementation = implementation;
         this.method = method;
@@ -61,8 +86,65 @@ public class Command {
             this.type = Type.CLASS;
         } else {
             this.type = Type.METHOD;
+            this.invoker = new CommandInvoker(method);
         }
         this.fastFail = fastFail;
+        this.batch = batch;
+    }
+
+    /**
+     * Get the invoker for the method implementing the test command. This is the method itself (type METHOD) or the
+     * single public method of the implementation (type CLASS).
+     *
+     * @return the invoker for the test command
+     */
+    public CommandInvoker getInvoker() {
+        CommandInvoker commandInvoker = invoker;
+        if (commandInvoker == null || (type == Type.METHOD && commandInvoker.getMethod() != method)) {
+            commandInvoker = new CommandInvoker(type == Type.METHOD ? method : getSinglePublicMethod(implementation));
+            invoker = commandInvoker;
+        }
+        return commandInvoker;
+    }
+
+    /**
+     * Get the plan for resolving the parameters of the test command.
+     *
+     * @return the parameter plan for the test command
+     */
+    ParameterPlan getParameterPlan() {
+        ParameterPlan plan = parameterPlan;
+        if (plan == null || getInvoker().getMethod() != plan.getMethod()) {
+            plan = new ParameterPlan(getInvoker().getMethod(), type == Type.CLASS ? implementation : null, batch);
+            parameterPlan = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * Get the single public method of the given test command implementation. If there are multiple public methods
+     * found, an IllegalArgumentException will be thrown because test commands of type class are allowed only a single
+     * public method!
+     *
+     * @param implementation the test command implementation
+     * @return the single public method of the implementation
+     */
+    private static Method getSinglePublicMethod(final Class<?> implementation) {
+        Method method = null;
+        for (final Method m : implementation.getDeclaredMethods()) {
+            if (Modifier.isPublic(m.getModifiers())) {
+                if (method == null) {
+                    method = m;
+                } else {
+                    throw new IllegalArgumentException(
+                            "Multiple public methods found in test command of type 'CLASS'. This is not allowed!");
+                }
+            }
+        }
+        if (method == null) {
+            throw new IllegalArgumentException("No public method found in test command of type 'CLASS'!");
+        }
+        return method;
     }
 
     public boolean isStaticMethod() {
@@ -0,0 +1,117 @@
+package com.jexunit.core.commands;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invoker for the method implementing a test command. The invoker is created once per {@link Command} and calls the
+ * method via a {@link MethodHandle} instead of reflection. It behaves like {@link Method#invoke(Object, Object...)}:
+ * invalid arguments will throw an {@link IllegalArgumentException}, everything thrown by the method itself will be
+ * wrapped into an {@link InvocationTargetException}.
+ *
+ * @author fabian
+ */
+public class CommandInvoker {
+
+    private final Method method;
+    private final boolean staticMethod;
+    private final Class<?>[] parameterTypes;
+    /**
+     * the types of the parameters with the primitive types wrapped (for checking the parameters)
+     */
+    private final Class<?>[] wrappedParameterTypes;
+    /**
+     * method handle of type <code>(Object target, Object[] parameters)Object</code> or null, if the method cannot be
+     * accessed via method handle (so reflection will be used)
+     */
+    private final MethodHandle handle;
+
+    /**
+     * Create the invoker for the given method.
+     *
+     * @param method the method implementing the test command
+     */
+    public CommandInvoker(final Method method) {
+        this.method = method;
+        this.staticMethod = Modifier.isStatic(method.getModifiers());
+        this.parameterTypes = method.getParameterTypes();
+        this.wrappedParameterTypes = MethodType.methodType(void.class, parameterTypes).wrap().parameterArray();
+        this.handle = createHandle(method, staticMethod, parameterTypes.length);
+    }
+
+    private static MethodHandle createHandle(final Method method, final boolean staticMethod, final int parameters) {
+        try {
+            // the access rules are the same as for reflection, so inaccessible methods will fail the same way
+            MethodHandle mh = MethodHandles.lookup().unreflect(method);
+            if (staticMethod) {
+                // ignore the target for static methods
+                mh = MethodHandles.dropArguments(mh, 0, Object.class);
+            }
+            return mh.asType(MethodType.genericMethodType(parameters + 1)).asSpreader(Object[].class, parameters);
+        } catch (final IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the method invoked by this invoker.
+     *
+     * @return the method implementing the test command
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invoke the method on the given target with the given parameters.
+     *
+     * @param target     the instance to invoke the method on (ignored for static methods)
+     * @param parameters the parameters for the method
+     * @return the result of the method (<code>null</code> for void methods)
+     * @throws IllegalAccessException    if the method is not accessible
+     * @throws IllegalArgumentException  if the target or the parameters don't match the method
+     * @throws InvocationTargetException if the method throws an exception
+     */
+    public Object invoke(final Object target, final Object... parameters) throws IllegalAccessException,
+            InvocationTargetException {
+        if (handle == null || !matches(target, parameters)) {
+            // let reflection handle (and report) all the special cases
+            return method.invoke(target, parameters);
+        }
+
+        try {
+            return (Object) handle.invokeExact(target, parameters);
+        } catch (final Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Check, if the target and the parameters exactly match the method (without any conversions), so the method
+     * handle can be invoked.
+     */
+    private boolean matches(final Object target, final Object[] parameters) {
+        if (!staticMethod && !method.getDeclaringClass().isInstance(target)) {
+            return false;
+        }
+        if (parameters == null || parameters.length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            final Object value = parameters[i];
+            if (value == null) {
+                if (parameterTypes[i].isPrimitive()) {
+                    return false;
+                }
+            } else if (!wrappedParameterTypes[i].isInstance(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
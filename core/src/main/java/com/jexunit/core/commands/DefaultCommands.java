@@ -4,7 +4,7 @@ import lombok.Getter;
 
 /**
  * Here the default/built-in commands and command-attributes are defined. These are the following ones: disabled,
- * exception_expected, report, breakpoint, comment.
+ * exception_expected, report, breakpoint, comment, fastFail, maxMillis, repeat, warmup, percentile, barrier.
  *
  * @author fabian
  */
@@ -41,7 +41,36 @@ public enum DefaultCommands {
     /**
      * Parameter for "setting a breakpoint inside the excel-file" to be able to debug the test more easily.
      */
-    BREAKPOINT("jexunit.defaultcommand.breakpoint", "breakpoint");
+    BREAKPOINT("jexunit.defaultcommand.breakpoint", "breakpoint"),
+
+    /**
+     * Parameter for the latency budget of a command (in milliseconds). If the command takes longer, the test will fail.
+     */
+    MAX_MILLIS("jexunit.defaultcommand.max_millis", "maxMillis"),
+
+    /**
+     * Parameter for running a command repeatedly as micro-benchmark. The parameters are bound once, only the invocation
+     * is repeated (and measured). In combination with {@link #MAX_MILLIS} the budget applies to the {@link #PERCENTILE}
+     * of the latencies measured.
+     */
+    REPEAT("jexunit.defaultcommand.repeat", "repeat"),
+
+    /**
+     * Parameter for the number of (not measured) invocations before the {@link #REPEAT}ed invocations.
+     */
+    WARMUP("jexunit.defaultcommand.warmup", "warmup"),
+
+    /**
+     * Parameter for the percentile of the latencies of the {@link #REPEAT}ed invocations to check against the
+     * {@link #MAX_MILLIS}. This overrides the configured default percentile.
+     */
+    PERCENTILE("jexunit.defaultcommand.percentile", "percentile"),
+
+    /**
+     * Parameter for an ordering barrier: the command will wait for all the asynchronous commands of the previous rows
+     * to complete before it starts (if it depends on their effects).
+     */
+    BARRIER("jexunit.defaultcommand.barrier", "barrier");
 
     private final String configKey;
     private final String defaultValue;
@@ -12,8 +12,9 @@ public interface Invocable {
      * Invoke the command using the given parameters.
      *
      * @param parameters "current" parameters for invoking the test command
+     * @return the result of the test command (for example a CompletionStage of an asynchronous command) or null
      * @throws Exception in case something went wrong
      */
-    void invoke(final Object... parameters) throws Exception;
+    Object invoke(final Object... parameters) throws Exception;
 
 }
@@ -0,0 +1,359 @@
+package com.jexunit.core.commands;
+
+import com.jexunit.core.commands.annotation.TestParam;
+import com.jexunit.core.context.Context;
+import com.jexunit.core.context.TestContext;
+import com.jexunit.core.context.TestContextManager;
+import com.jexunit.core.data.TestObjectHelper;
+import com.jexunit.core.model.HeaderSchema;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable plan for resolving the parameters of a test command. The annotations of the method parameters (and the
+ * fields of test commands of type CLASS) are analyzed once per command, so each parameter slot already knows where its
+ * value comes from (test-case, test-context, test-parameter or entity created out of the test-case).
+ * <p>
+ * The keys of the test-parameters are looked up case-insensitive in the values of the test-case. The key found is
+ * resolved once per header layout of the test-cases.
+ * </p>
+ * <p>
+ * For batch commands (see {@link com.jexunit.core.commands.annotation.TestCommand#batch()}) the parameters of type
+ * {@link List} are resolved per test-case (using the type argument of the list), the other parameters (TestContext or
+ * instances out of the test-context) once per batch.
+ * </p>
+ *
+ * @author fabian
+ */
+class ParameterPlan {
+
+    private final Method method;
+    private final boolean batch;
+    private final List<Slot> parameterSlots;
+    /**
+     * the parameters of a batch command resolved per test-case (the parameters of type list)
+     */
+    private final boolean[] listParameters;
+    private final List<FieldSlot> fieldSlots;
+
+    /**
+     * the keys of the test-parameters (in the order of the slots), resolved per header layout
+     */
+    private final List<String> testParamKeys = new ArrayList<>();
+    private final Map<List<String>, String[]> resolvedKeys = new ConcurrentHashMap<>();
+    /**
+     * Create the plan for the given method and (for test commands of type CLASS) the given implementation.
+     *
+     * @param method         the method implementing the test command
+     * @param implementation the class implementing the test command (type CLASS) or null
+     */
+    ParameterPlan(final Method method, final Class<?> implementation) {
+        this(method, implementation, false);
+    }
+
+    /**
+     * Create the plan for the given method and (for test commands of type CLASS) the given implementation.
+     *
+     * @param method         the method implementing the test command
+     * @param implementation the class implementing the test command (type CLASS) or null
+     * @param batch          true, if the test command is run for a batch of test-cases
+     */
+    ParameterPlan(final Method method, final Class<?> implementation, final boolean batch) {
+        this.method = method;
+        this.batch = batch;
+        listParameters = new boolean[method.getParameterCount()];
+        parameterSlots = Collections.unmodifiableList(createParameterSlots(method));
+        fieldSlots = implementation == null ? Collections.emptyList()
+                : Collections.unmodifiableList(createFieldSlots(implementation));
+        if (batch && !fieldSlots.isEmpty()) {
+            throw new IllegalArgumentException(String.format(
+                    "Test-parameters cannot be injected into the fields of the batch test command %s!",
+                    implementation.getName()));
+        }
+    }
+
+    private List<Slot> createParameterSlots(final Method method) {
+        final List<Slot> slots = new ArrayList<>(method.getParameterCount());
+        final Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        int i = 0;
+        for (final Parameter parameter : method.getParameters()) {
+            Class<?> parameterType = parameter.getType();
+            if (batch && parameterType == List.class) {
+                // the list will contain the value of the parameter per test-case
+                parameterType = getElementType(parameter);
+                listParameters[i] = true;
+            } else if (batch && parameterType != TestContext.class && !isAnnotationPresent(parameterAnnotations[i],
+                    Context.class)) {
+                throw new IllegalArgumentException(String.format("The parameter %s of the batch test command %s has "
+                        + "to be a List, the TestContext or an instance out of the test-context!", parameter.getName(),
+                        method.getName()));
+            }
+            if (parameterType == TestCase.class) {
+                slots.add((testCase, keys) -> testCase);
+            } else if (parameterType == TestContext.class) {
+                slots.add((testCase, keys) -> TestContextManager.getTestContext());
+            } else if (parameterAnnotations[i].length > 0) {
+                for (final Annotation a : parameterAnnotations[i]) {
+                    if (a instanceof Context) {
+                        // add an instance out of the test-context
+                        slots.add(contextSlot(parameterType, ((Context) a).value()));
+                        break;
+                    } else if (a instanceof TestParam) {
+                        // add "single" test-param here
+                        final TestParam param = (TestParam) a;
+                        String key = param.value();
+                        // read out the parameters name if key is NOT set and parameter name is present (possible
+                        // since jdk 1.8 if compiler argument '-parameters' is set!
+                        if (key.isEmpty() && parameter.isNamePresent()) {
+                            // try to get the parameters name as key
+                            key = parameter.getName();
+                        }
+                        slots.add(testParamSlot(parameterType, key, param.required()));
+                    }
+                }
+            } else {
+                final Class<?> type = parameterType;
+                slots.add((testCase, keys) -> TestObjectHelper.createObject(testCase, type));
+            }
+            i++;
+        }
+        return slots;
+    }
+
+    private static boolean isAnnotationPresent(final Annotation[] annotations,
+                                               final Class<? extends Annotation> annotationType) {
+        for (final Annotation a : annotations) {
+            if (annotationType.isInstance(a)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the type of the elements of the given parameter of type list (the type argument of the list).
+     */
+    private Class<?> getElementType(final Parameter parameter) {
+        final Type type = parameter.getParameterizedType();
+        if (type instanceof ParameterizedType) {
+            final Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (elementType instanceof Class) {
+                return (Class<?>) elementType;
+            } else if (elementType instanceof ParameterizedType
+                    && ((ParameterizedType) elementType).getRawType() instanceof Class) {
+                // for example List<TestCase<?>>
+                return (Class<?>) ((ParameterizedType) elementType).getRawType();
+            }
+        }
+        throw new IllegalArgumentException(String.format("The type of the elements of the parameter %s of the batch "
+                + "test command %s cannot be determined!", parameter.getName(), method.getName()));
+    }
+
+    private List<FieldSlot> createFieldSlots(final Class<?> implementation) {
+        final List<FieldSlot> slots = new ArrayList<>();
+        for (final Field field : implementation.getDeclaredFields()) {
+            for (final TestParam param : field.getAnnotationsByType(TestParam.class)) {
+                // if key is not set, the field name will be the key
+                final String key = param.value().isEmpty() ? field.getName() : param.value();
+                field.setAccessible(true);
+                slots.add(new FieldSlot(field, testParamSlot(field.getType(), key, param.required())));
+            }
+        }
+        return slots;
+    }
+
+    private Slot contextSlot(final Class<?> type, final String id) {
+        if (id.isEmpty()) {
+            // lookup the instance out of the current TestContext
+            return (testCase, keys) -> TestContextManager.get(type);
+        }
+        return (testCase, keys) -> TestContextManager.get(type, id);
+    }
+
+    private Slot testParamSlot(final Class<?> type, final String key, final boolean required) {
+        final int index = testParamKeys.size();
+        testParamKeys.add(key);
+        return (testCase, keys) -> {
+            final String resolvedKey = keys[index];
+            final TestCell cell = resolvedKey != null ? testCase.getValues().get(resolvedKey) : null;
+            final Object value = TestObjectHelper.convertCellToObject(type, cell);
+            if (required && value == null) {
+                throw new IllegalArgumentException("Required parameter not found: " + key);
+            }
+            return value;
+        };
+    }
+
+    /**
+     * Resolve the keys of the test-parameters for the header layout of the given test-case. The first key matching
+     * (case-insensitive) will be used.
+     *
+     * @param testCase the test-case to resolve the keys for
+     * @return the keys found in the values of the test-case (in the order of the test-parameters, null if there is no
+     * matching key) or null, if there are no test-parameters
+     */
+    private String[] resolveKeys(final TestCase<?> testCase) {
+        if (testParamKeys.isEmpty()) {
+            return null;
+        }
+        final HeaderSchema schema = testCase.getSchema();
+        if (schema != null) {
+            // resolved once per (interned) header schema, so the layout doesn't have to be copied for each test-case
+            return schema.getDerived(this, (s, plan) -> plan.resolveKeys(s.getKeys()));
+        }
+        final List<String> layout = new ArrayList<>(testCase.getValues().keySet());
+        String[] keys = resolvedKeys.get(layout);
+        if (keys == null) {
+            keys = resolveKeys(layout);
+            resolvedKeys.put(layout, keys);
+        }
+        return keys;
+    }
+
+    private String[] resolveKeys(final List<String> layout) {
+        final String[] keys = new String[testParamKeys.size()];
+        for (int i = 0; i < keys.length; i++) {
+            for (final String header : layout) {
+                if (header != null && header.equalsIgnoreCase(testParamKeys.get(i))) {
+                    keys[i] = header;
+                    break;
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Get the method the plan was created for.
+     *
+     * @return the method implementing the test command
+     */
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Check, if the plan is for a test command run for a batch of test-cases.
+     *
+     * @return true, if the test command is a batch command, else false
+     */
+    boolean isBatch() {
+        return batch;
+    }
+
+    /**
+     * Resolve the parameters for invoking the test command. For a batch command, the parameters are resolved for a
+     * batch of the single test-case.
+     *
+     * @param testCase the current test-case
+     * @return the parameters to invoke the test command with
+     * @throws Exception in case that something goes wrong
+     */
+    Object[] resolveParameters(final TestCase<?> testCase) throws Exception {
+        final String[] keys = resolveKeys(testCase);
+        final Object[] parameters = new Object[parameterSlots.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            final Object value = parameterSlots.get(i).resolve(testCase, keys);
+            parameters[i] = listParameters[i] ? new ArrayList<>(Collections.singletonList(value)) : value;
+        }
+        return parameters;
+    }
+
+    /**
+     * Resolve the parameters for invoking the batch command with the given test-cases. If the parameters of a
+     * test-case cannot be resolved, the error is set as failure of the test-case and the test-case is not part of the
+     * batch.
+     *
+     * @param testCases the test-cases of the batch
+     * @param bound     the indices of the test-cases resolved (in the order of the elements of the lists)
+     * @param failures  the failures resolving the parameters (per index of the test-cases)
+     * @return the parameters to invoke the batch command with
+     * @throws Exception in case that something goes wrong resolving the parameters of the whole batch
+     */
+    @SuppressWarnings("unchecked")
+    Object[] resolveBatchParameters(final List<? extends TestCase<?>> testCases, final List<Integer> bound,
+                                    final Throwable[] failures) throws Exception {
+        final Object[] parameters = new Object[parameterSlots.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            if (listParameters[i]) {
+                parameters[i] = new ArrayList<>(testCases.size());
+            } else {
+                // the TestContext or an instance out of the test-context
+                parameters[i] = parameterSlots.get(i).resolve(testCases.get(0), null);
+            }
+        }
+
+        final Object[] values = new Object[parameters.length];
+        for (int row = 0; row < testCases.size(); row++) {
+            final TestCase<?> testCase = testCases.get(row);
+            try {
+                final String[] keys = resolveKeys(testCase);
+                for (int i = 0; i < values.length; i++) {
+                    if (listParameters[i]) {
+                        values[i] = parameterSlots.get(i).resolve(testCase, keys);
+                    }
+                }
+            } catch (final Exception e) {
+                failures[row] = e;
+                continue;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (listParameters[i]) {
+                    ((List<Object>) parameters[i]).add(values[i]);
+                }
+            }
+            bound.add(row);
+        }
+        return parameters;
+    }
+
+    /**
+     * Inject the test-parameters into the fields of the given instance of a test command of type CLASS.
+     *
+     * @param testCase the current test-case
+     * @param instance the instance of the test command
+     * @throws Exception in case that something goes wrong
+     */
+    void injectFields(final TestCase<?> testCase, final Object instance) throws Exception {
+        if (fieldSlots.isEmpty()) {
+            return;
+        }
+        final String[] keys = resolveKeys(testCase);
+        for (final FieldSlot slot : fieldSlots) {
+            slot.field.set(instance, slot.slot.resolve(testCase, keys));
+        }
+    }
+
+    /**
+     * Source of the value of a single parameter.
+     */
+    @FunctionalInterface
+    private interface Slot {
+
+        Object resolve(TestCase<?> testCase, String[] keys) throws Exception;
+    }
+
+    private static class FieldSlot {
+
+        private final Field field;
+        private final Slot slot;
+
+        FieldSlot(final Field field, final Slot slot) {
+            this.field = field;
+            this.slot = slot;
+        }
+    }
+
+}
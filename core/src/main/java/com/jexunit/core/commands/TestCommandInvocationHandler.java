@@ -28,16 +28,22 @@ public class TestCommandInvocationHandler implements Invocable {
     Method method;
     Object o;
 
+    private final CommandInvoker invoker;
+
     public TestCommandInvocationHandler(final Command testCommand, final Method method, final Object o) {
         this.testCommand = testCommand;
         this.method = method;
         this.o = o;
+        // use the invoker of the command (created once) if it is the same method
+        final CommandInvoker commandInvoker = testCommand != null ? testCommand.getInvoker() : null;
+        this.invoker = commandInvoker != null && commandInvoker.getMethod().equals(method) ? commandInvoker
+                : new CommandInvoker(method);
     }
 
     @Override
-    public void invoke(final Object... parameters) throws Exception {
+    public Object invoke(final Object... parameters) throws Exception {
         try {
-            method.invoke(o, parameters);
+            return invoker.invoke(o, parameters);
         } catch (final IllegalAccessException | IllegalArgumentException e) {
             e.printStackTrace();
             throw e;
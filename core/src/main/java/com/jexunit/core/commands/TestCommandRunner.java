@@ -3,20 +3,22 @@ package com.jexunit.core.commands;
 import com.jexunit.core.JExUnitBase;
 import com.jexunit.core.JExUnitConfig;
 import com.jexunit.core.commands.Command.Type;
-import com.jexunit.core.commands.annotation.TestParam;
-import com.jexunit.core.context.Context;
-import com.jexunit.core.context.TestContext;
 import com.jexunit.core.context.TestContextManager;
-import com.jexunit.core.data.TestObjectHelper;
+import com.jexunit.core.metrics.FlightRecorderEvents;
+import com.jexunit.core.metrics.Metrics;
+import com.jexunit.core.metrics.Phase;
 import com.jexunit.core.model.TestCase;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Helper class for running the test-commands.
@@ -32,216 +34,355 @@ public class TestCommandRunner {
     }
 
     /**
-     * Get the method for the current testCommand (via the {@code @TestCommand}-Annotation) and call it.
+     * Get the method for the current testCommand (via the {@code @TestCommand}-Annotation) and call it. If the
+     * testCommand is asynchronous (returns a {@link CompletionStage}), this will wait for its completion.
      *
      * @param testCase the current testCase to run
      * @throws Exception in case that something goes wrong
      */
-    @SuppressWarnings("unchecked")
     public void runTestCommand(final TestCase<?> testCase) throws Exception {
-        // remove the parameters used by the framework
-        removeFrameworkParameters(testCase);
+        final long start = Metrics.start();
+        try {
+            await(invokeTestCommand(prepareTestCommand(testCase), testCase));
+        } finally {
+            Metrics.recordCommand(testCase.getNormalizedTestCommand(), start);
+        }
+    }
 
-        // check, which method to run for the current TestCommand
-        final Command testCommand = TestCommandScanner.getTestCommand(testCase.getTestCommand().toLowerCase(),
+    /**
+     * Check, if the test-command of the given testCase is asynchronous: the method implementing the test-command
+     * returns a {@link CompletionStage} (for example a {@link CompletableFuture}).
+     *
+     * @param testCase the testCase to check
+     * @return true, if the test-command is asynchronous, else false
+     */
+    public boolean isAsyncCommand(final TestCase<?> testCase) {
+        final Command testCommand = TestCommandScanner.getTestCommand(testCase.getNormalizedTestCommand(),
                 testBase.getTestType());
-        if (testCommand != null) {
-            // set the default value for fastFail if not set in the testCase
-            if (testCase.getFastFail() == null) {
-                testCase.setFastFail(testCommand.isFastFail());
-            }
+        return testCommand != null && !testCommand.isBatch()
+                && CompletionStage.class.isAssignableFrom(testCommand.getInvoker().getMethod().getReturnType());
+    }
 
-            // prepare the test-method
-            final Method testMethod;
-            if (testCommand.getType() == Type.METHOD) {
-                testMethod = testCommand.getMethod();
-            } else if (testCommand.getType() == Type.CLASS) {
-                // prepare and run test-command defined by a class
-                final Object testCommandInstance = testCommand.getImplementation().newInstance();
-                TestContextManager.add((Class<Object>) testCommand.getImplementation(), testCommandInstance);
-
-                // inject Test-Parameters (and -Context) to the class
-                injectTestParams(testCase, testCommandInstance);
-
-                // invoke the test-command
-                testMethod = getSinglePublicMethod(testCommand);
-            } else {
-                throw new IllegalArgumentException("Type of the TestCommand has to be one of 'METHOD' or 'CLASS'!");
+    /**
+     * Start the current testCommand without waiting for its completion. The failures (also the ones binding the
+     * parameters or thrown by the method itself) will complete the returned future exceptionally instead of being
+     * thrown. Cancelling the returned future cancels the future of the testCommand too.
+     *
+     * @param testCase the current testCase to run
+     * @return the future completed with the testCommand (already completed for synchronous testCommands)
+     */
+    public CompletableFuture<?> startTestCommand(final TestCase<?> testCase) {
+        final long start = Metrics.start();
+        CompletableFuture<?> future;
+        try {
+            final Object result = invokeTestCommand(prepareTestCommand(testCase), testCase);
+            future = result instanceof CompletionStage ? ((CompletionStage<?>) result).toCompletableFuture()
+                    : CompletableFuture.completedFuture(result);
+        } catch (final Exception | AssertionError e) {
+            final CompletableFuture<?> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            future = failed;
+        }
+        final CompletableFuture<?> command = future;
+        final CompletableFuture<?> recorded = future.whenComplete((result, failure) -> Metrics.recordCommand(
+                testCase.getNormalizedTestCommand(), start));
+        recorded.whenComplete((result, failure) -> {
+            if (recorded.isCancelled()) {
+                command.cancel(true);
             }
+        });
+        return recorded;
+    }
 
-            // prepare the parameters
-            final List<Object> parameters = prepareParameters(testCase, testMethod);
+    /**
+     * Run the current testCommand repeatedly as micro-benchmark (see {@link TestCase#getRepeat()}). The parameters are
+     * bound only once, so only the invocations are repeated and measured (after the {@link TestCase#getWarmup()
+     * warmup}). Commands implemented by {@link JExUnitBase#runCommand(TestCase)} will be called repeatedly as a whole.
+     *
+     * @param testCase the current testCase to run
+     * @return the latencies of the measured invocations
+     * @throws Exception in case that something goes wrong
+     */
+    public BenchmarkResult runBenchmark(final TestCase<?> testCase) throws Exception {
+        final PreparedTestCommand prepared = prepareTestCommand(testCase);
 
-            // invoke the method with the parameters
-            invokeTestCommandMethod(testCommand, testMethod, parameters.toArray());
-        } else {
-            testBase.runCommand(testCase);
+        final int warmup = testCase.getWarmup() != null ? testCase.getWarmup() : 0;
+        for (int i = 0; i < warmup; i++) {
+            await(invokeTestCommand(prepared, testCase));
+        }
+
+        // each measured invocation is recorded as a single sample of the command (the warmup is not recorded)
+        final long[] latencies = new long[testCase.getRepeat() != null ? Math.max(0, testCase.getRepeat()) : 1];
+        for (int i = 0; i < latencies.length; i++) {
+            final long invocationStart = System.nanoTime();
+            try {
+                await(invokeTestCommand(prepared, testCase));
+            } finally {
+                latencies[i] = System.nanoTime() - invocationStart;
+                Metrics.recordCommandLatency(testCase.getNormalizedTestCommand(), latencies[i]);
+            }
         }
+        return new BenchmarkResult(latencies);
     }
 
     /**
-     * Check the given test command for a single public method and return this method. If there is no public method
-     * declared, null will be returned. If there are multiple public methods found, an IllegalArgumentException will be
-     * thrown because test commands of type class are allowed only a single public method!
+     * Check, if the test-command of the given testCase is a batch command (see
+     * {@link com.jexunit.core.commands.annotation.TestCommand#batch()}).
      *
-     * @param testCommand test command
-     * @return method "behind" the test command
+     * @param testCase the testCase to check
+     * @return true, if the test-command is run for a batch of testCases, else false
      */
-    private Method getSinglePublicMethod(final Command testCommand) {
-        Method method = null;
-        for (final Method m : testCommand.getImplementation().getDeclaredMethods()) {
-            if (Modifier.isPublic(m.getModifiers())) {
-                if (method == null) {
-                    method = m;
-                } else {
-                    throw new IllegalArgumentException(
-                            "Multiple public methods found in test command of type 'CLASS'. This is not allowed!");
+    public boolean isBatchCommand(final TestCase<?> testCase) {
+        final Command testCommand = TestCommandScanner.getTestCommand(testCase.getNormalizedTestCommand(),
+                testBase.getTestType());
+        return testCommand != null && testCommand.isBatch();
+    }
+
+    /**
+     * Run the batch command once for all the given testCases (consecutive testCases of the same batch command, see
+     * {@link #isBatchCommand(TestCase)}). The failures are attributed to the testCases: the failures binding the
+     * parameters and the failures of a {@link BatchException} thrown by the command to the single testCases, any
+     * other exception thrown by the command to all the testCases of the batch.
+     *
+     * @param testCases the testCases to run
+     * @return the failures per testCase (in the order of the testCases, <code>null</code> if the testCase succeeded)
+     * @throws Exception in case that something goes wrong running the batch (not caused by the command itself)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Throwable> runBatchTestCommand(final List<? extends TestCase<?>> testCases) throws Exception {
+        final TestCase<?> first = testCases.get(0);
+        final long start = Metrics.start();
+        try {
+            for (final TestCase<?> testCase : testCases) {
+                removeFrameworkParameters(testCase);
+            }
+            final Command testCommand = resolveTestCommand(first);
+            if (testCommand == null || !testCommand.isBatch()) {
+                throw new IllegalArgumentException(String.format("TestCommand %s is no batch command!",
+                        first.getTestCommand()));
+            }
+            for (final TestCase<?> testCase : testCases) {
+                if (testCase.getFastFail() == null) {
+                    testCase.setFastFail(testCommand.isFastFail());
                 }
             }
+
+            // prepare the test-method and bind the parameters per testCase
+            final long bindStart = Metrics.start();
+            final Object bindEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.PARAMETER_BIND);
+            final Method testMethod = getTestMethod(testCommand, first);
+            final Throwable[] failures = new Throwable[testCases.size()];
+            final List<Integer> bound = new ArrayList<>(testCases.size());
+            final Object[] parameters = testCommand.getParameterPlan().resolveBatchParameters(testCases, bound,
+                    failures);
+            Metrics.stop(Phase.BIND, bindStart);
+            FlightRecorderEvents.commit(bindEvent, first);
+            if (bound.isEmpty()) {
+                return Arrays.asList(failures);
+            }
+
+            final Invocable invocationHandler = getInvocationHandler(testCommand, testMethod);
+            final long invokeStart = Metrics.start();
+            final Object invokeEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.COMMAND_INVOKE);
+            Throwable failure = null;
+            try {
+                await(invocationHandler.invoke(parameters));
+            } catch (final InvocationTargetException e) {
+                failure = e.getCause() instanceof BatchException ? e.getCause() : e;
+            } catch (final Exception | AssertionError e) {
+                failure = e;
+            } finally {
+                Metrics.stop(Phase.INVOKE, invokeStart);
+                FlightRecorderEvents.commit(invokeEvent, first);
+            }
+
+            if (failure instanceof BatchException) {
+                for (final Map.Entry<Integer, Throwable> rowFailure : ((BatchException) failure).getFailures()
+                        .entrySet()) {
+                    if (rowFailure.getKey() < 0 || rowFailure.getKey() >= bound.size()) {
+                        throw new IllegalArgumentException(String.format(
+                                "Index %d of the failure out of the batch (size: %d)!", rowFailure.getKey(),
+                                bound.size()), failure);
+                    }
+                    failures[bound.get(rowFailure.getKey())] = rowFailure.getValue();
+                }
+            } else if (failure != null) {
+                setFailure(failures, bound, failure);
+            }
+            return Arrays.asList(failures);
+        } finally {
+            Metrics.recordCommand(first.getNormalizedTestCommand(), start);
         }
-        return method;
     }
 
     /**
-     * Remove the parameters used by the framework to only pass the "users" parameters to the commands.
+     * Set the failure for all the testCases bound to the batch.
+     */
+    private static void setFailure(final Throwable[] failures, final List<Integer> bound, final Throwable failure) {
+        for (final Integer row : bound) {
+            failures[row] = failure;
+        }
+    }
+
+    /**
+     * Resolve the test-command and bind the values of the testCase to its parameters (and fields).
      *
-     * @param testCase current TestCase
+     * @param testCase the current testCase to run
+     * @return the test-command ready to invoke or <code>null</code>, if the test-command is implemented by
+     * {@link JExUnitBase#runCommand(TestCase)}
+     * @throws Exception in case that something goes wrong
      */
-    private void removeFrameworkParameters(final TestCase<?> testCase) {
-        for (final DefaultCommands dc : DefaultCommands.values()) {
-            testCase.getValues().remove(JExUnitConfig.getDefaultCommandProperty(dc));
+    private PreparedTestCommand prepareTestCommand(final TestCase<?> testCase) throws Exception {
+        // remove the parameters used by the framework
+        removeFrameworkParameters(testCase);
+
+        // check, which method to run for the current TestCommand
+        final Command testCommand = resolveTestCommand(testCase);
+        if (testCommand == null) {
+            return null;
+        }
+
+        // set the default value for fastFail if not set in the testCase
+        if (testCase.getFastFail() == null) {
+            testCase.setFastFail(testCommand.isFastFail());
         }
+
+        // prepare the test-method
+        final long bindStart = Metrics.start();
+        final Object bindEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.PARAMETER_BIND);
+        final Method testMethod = getTestMethod(testCommand, testCase);
+
+        // prepare the parameters
+        final Object[] parameters = testCommand.getParameterPlan().resolveParameters(testCase);
+        Metrics.stop(Phase.BIND, bindStart);
+        FlightRecorderEvents.commit(bindEvent, testCase);
+
+        return new PreparedTestCommand(getInvocationHandler(testCommand, testMethod), parameters);
     }
 
     /**
-     * Prepare the parameters for the given method (representing the test-command implementation) out of the given
-     * test-case.
+     * Resolve the test-command for the testCase.
      *
-     * @param testCase the test-case to prepare the parameters from
-     * @param method   the method representing the test-command implementation
-     * @return the parameters-list to invoke the method with
+     * @param testCase the current testCase to run
+     * @return the test-command or <code>null</code>, if there is no test-command found
+     */
+    private Command resolveTestCommand(final TestCase<?> testCase) {
+        final Object resolveEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.COMMAND_RESOLVE);
+        final Command testCommand = TestCommandScanner.getTestCommand(testCase.getNormalizedTestCommand(),
+                testBase.getTestType());
+        FlightRecorderEvents.commit(resolveEvent, testCase);
+        return testCommand;
+    }
+
+    /**
+     * Get the method implementing the test-command. For test-commands defined by a class, a new instance of the class
+     * is put to the test-context and the test-parameters are injected into its fields.
+     *
+     * @param testCommand the test-command
+     * @param testCase    the current testCase to run
+     * @return the method to invoke
      * @throws Exception in case that something goes wrong
      */
-    private List<Object> prepareParameters(final TestCase<?> testCase, final Method method) throws Exception {
-        final List<Object> parameters = new ArrayList<>(method.getParameterTypes().length);
-        final Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-        int i = 0;
-        for (final Parameter parameter : method.getParameters()) {
-            final Class<?> parameterType = parameter.getType();
-            if (parameterType == TestCase.class) {
-                parameters.add(testCase);
-            } else if (parameterType == TestContext.class) {
-                parameters.add(TestContextManager.getTestContext());
-            } else {
-                if (parameterAnnotations[i].length > 0) {
-                    for (final Annotation a : parameterAnnotations[i]) {
-                        if (a instanceof Context) {
-                            // add an instance out of the test-context
-                            final Context ctx = (Context) a;
-                            final String id = ctx.value();
-                            if (id.isEmpty()) {
-                                // lookup the instance out of the current TestContext
-                                parameters.add(TestContextManager.get(parameterType));
-                            } else {
-                                parameters.add(TestContextManager.get(parameterType, id));
-                            }
-                            break;
-                        } else if (a instanceof TestParam) {
-                            // add "single" test-param here
-                            final TestParam param = (TestParam) a;
-                            String key = param.value();
-                            // read out the parameters name if key is NOT set and parameter name is
-                            // present (possible since jdk 1.8 if compiler argument '-parameters' is
-                            // set!
-                            if (key.isEmpty() && parameter.isNamePresent()) {
-                                // try to get the parameters name as key
-                                key = parameter.getName();
-                            }
-                            final String stringValue = TestObjectHelper.getPropertyByKey(testCase, key);
-                            final Object value = TestObjectHelper.convertPropertyStringToObject(parameterType, stringValue);
-                            if (param.required() && value == null) {
-                                throw new IllegalArgumentException("Required parameter not found: " + key);
-                            }
-                            parameters.add(value);
-                        }
-                    }
-                } else {
-                    final Object o = TestObjectHelper.createObject(testCase, parameterType);
-                    parameters.add(o);
-                }
-            }
-            i++;
+    @SuppressWarnings("unchecked")
+    private Method getTestMethod(final Command testCommand, final TestCase<?> testCase) throws Exception {
+        if (testCommand.getType() == Type.METHOD) {
+            return testCommand.getMethod();
+        } else if (testCommand.getType() == Type.CLASS) {
+            // prepare and run test-command defined by a class
+            final Object testCommandInstance = testCommand.getImplementation().newInstance();
+            TestContextManager.add((Class<Object>) testCommand.getImplementation(), testCommandInstance);
+
+            // inject Test-Parameters (and -Context) to the class
+            testCommand.getParameterPlan().injectFields(testCase, testCommandInstance);
+
+            // invoke the test-command
+            return testCommand.getInvoker().getMethod();
         }
-        return parameters;
+        throw new IllegalArgumentException("Type of the TestCommand has to be one of 'METHOD' or 'CLASS'!");
     }
 
     /**
-     * Prepare the attributes for the given test-command class. This will "inject" the attributes annotated with
-     * <code>@TestParam</code>.
+     * Invoke the prepared test-command (or {@link JExUnitBase#runCommand(TestCase)}, if there is none).
      *
-     * @param testCase the test-case to prepare the parameters from
-     * @param instance the instance representing the test-command implementation
+     * @param prepared the prepared test-command, may be <code>null</code>
+     * @param testCase the current testCase to run
+     * @return the result of the test-command (a {@link CompletionStage} for asynchronous test-commands)
      * @throws Exception in case that something goes wrong
      */
-    private void injectTestParams(final TestCase<?> testCase, final Object instance) throws Exception {
-        for (final Field field : instance.getClass().getDeclaredFields()) {
-            final Annotation[] attributeAnnotations = field.getAnnotationsByType(TestParam.class);
-            for (final Annotation a : attributeAnnotations) {
-                if (a instanceof Context) {
-                    // add an instance out of the test-context
-                    final Context ctx = (Context) a;
-                    final String id = ctx.value();
-                    final Object value;
-                    if (id.isEmpty()) {
-                        // lookup the instance out of the current TestContext
-                        value = TestContextManager.get(field.getType());
-                    } else {
-                        value = TestContextManager.get(field.getType(), id);
-                    }
-                    if (field.isAccessible()) {
-                        field.set(instance, value);
-                    } else {
-                        field.setAccessible(true);
-                        field.set(instance, value);
-                        field.setAccessible(false);
-                    }
-                    break;
-                } else if (a instanceof TestParam) {
-                    // add "single" test-param here
-                    final TestParam param = (TestParam) a;
-                    String key = param.value();
-                    // if key is not set, the field name will be the key
-                    if (key.isEmpty()) {
-                        // get the field name as key
-                        key = field.getName();
-                    }
-                    final String stringValue = TestObjectHelper.getPropertyByKey(testCase, key);
-                    final Object value = TestObjectHelper.convertPropertyStringToObject(field.getType(), stringValue);
-                    if (param.required() && value == null) {
-                        throw new IllegalArgumentException("Required parameter not found: " + key);
-                    }
-                    if (field.isAccessible()) {
-                        field.set(instance, value);
-                    } else {
-                        field.setAccessible(true);
-                        field.set(instance, value);
-                        field.setAccessible(false);
-                    }
-                }
+    private Object invokeTestCommand(final PreparedTestCommand prepared, final TestCase<?> testCase)
+            throws Exception {
+        if (prepared == null) {
+            testBase.runCommand(testCase);
+            return null;
+        }
+
+        // invoke the method with the parameters
+        final long start = Metrics.start();
+        final Object invokeEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Type.COMMAND_INVOKE);
+        try {
+            return prepared.invocationHandler.invoke(prepared.parameters);
+        } catch (final InvocationTargetException e) {
+            // a batch command run for the single testCase: throw the failure of the testCase
+            if (e.getCause() instanceof BatchException && ((BatchException) e.getCause()).hasFailures()) {
+                rethrow(((BatchException) e.getCause()).getFailures().values().iterator().next());
             }
+            throw e;
+        } finally {
+            Metrics.stop(Phase.INVOKE, start);
+            FlightRecorderEvents.commit(invokeEvent, testCase);
         }
     }
 
     /**
-     * Invoke the given method (representing the implementation of the test-command) with the given parameters. This
+     * Wait for the completion of the given result of a test-command, if it is a {@link CompletionStage}.
+     *
+     * @param result the result of the test-command
+     * @throws Exception the failure of the asynchronous test-command
+     */
+    private static void await(final Object result) throws Exception {
+        if (result instanceof CompletionStage) {
+            try {
+                ((CompletionStage<?>) result).toCompletableFuture().get();
+            } catch (final ExecutionException e) {
+                rethrow(e.getCause() != null ? e.getCause() : e);
+            }
+        }
+    }
+
+    /**
+     * Throw the given failure of a test-command as it is.
+     */
+    private static void rethrow(final Throwable failure) throws Exception {
+        if (failure instanceof Exception) {
+            throw (Exception) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new IllegalStateException(failure);
+    }
+
+    /**
+     * Remove the parameters used by the framework to only pass the "users" parameters to the commands.
+     *
+     * @param testCase current TestCase
+     */
+    private void removeFrameworkParameters(final TestCase<?> testCase) {
+        for (final DefaultCommands dc : DefaultCommands.values()) {
+            testCase.getValues().remove(JExUnitConfig.getDefaultCommandProperty(dc));
+        }
+    }
+
+    /**
+     * Get the invocation handler for the given method (representing the implementation of the test-command). This
      * will invoke the method static, on the current test-class or on the instance out of the test-context. If there is
      * no instance in the test-context, a new instance will be created an put to the test-context.
      *
-     * @param method     the method to invoke
-     * @param parameters the parameters for the method
+     * @param testCommand the test-command
+     * @param method      the method to invoke
+     * @return the invocation handler for the method
      * @throws Exception in case that something goes wrong
      */
-    private void invokeTestCommandMethod(final Command testCommand, final Method method, final Object[] parameters) throws Exception {
+    private Invocable getInvocationHandler(final Command testCommand, final Method method) throws Exception {
         final Object o;
         if (method.getDeclaringClass() == testBase.getClass()) {
             o = this;
@@ -259,8 +400,21 @@ public class TestCommandRunner {
         }
 
         // invoke via TestCommandInvocationHandler to be able to proxy the call
-        final Invocable invocationHandler = TestCommandInvocationHandler.getInvocationHandler(testCommand, method, o);
-        invocationHandler.invoke(parameters);
+        return TestCommandInvocationHandler.getInvocationHandler(testCommand, method, o);
+    }
+
+    /**
+     * A test-command resolved and bound to the values of a testCase, ready to invoke (once or repeatedly).
+     */
+    private static final class PreparedTestCommand {
+
+        private final Invocable invocationHandler;
+        private final Object[] parameters;
+
+        PreparedTestCommand(final Invocable invocationHandler, final Object[] parameters) {
+            this.invocationHandler = invocationHandler;
+            this.parameters = parameters;
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -5,16 +5,30 @@ import com.jexunit.core.JExUnitConfig;
 import com.jexunit.core.commands.Command.Type;
 import com.jexunit.core.commands.annotation.TestCommand;
 import com.jexunit.core.commands.annotation.TestCommand.TestCommands;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.processor.TestCommandProcessor;
+import eu.infomas.annotation.AnnotationDetector;
 import eu.infomas.annotation.AnnotationDetector.MethodReporter;
 import eu.infomas.annotation.AnnotationDetector.TypeReporter;
 import org.apache.commons.lang.StringUtils;
 import org.junit.runner.RunWith;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * MethodReporter-Implementation for "storing" the annotated methods found. The "Annotation-Scan" will run once, so we
@@ -26,7 +40,86 @@ import java.util.Map;
  */
 public class TestCommandScanner implements TypeReporter, MethodReporter {
 
-    private static final Map<String, Map<Class<?>, Command>> commands = new HashMap<>();
+    /**
+     * path of the index of the test commands generated by the {@link TestCommandProcessor}
+     */
+    public static final String COMMAND_INDEX = TestCommandProcessor.COMMAND_INDEX;
+
+    /**
+     * the commands found by the last scan (immutable, published after the scan has finished)
+     */
+    private static volatile Map<String, Map<Class<?>, Command>> commands = Collections.emptyMap();
+    /**
+     * the resolved commands per test type (the key for the test type <code>null</code> is <code>Void.class</code>)
+     */
+    private static final Map<Class<?>, Map<String, Command>> commandTables = new ConcurrentHashMap<>();
+
+    /**
+     * the commands registered while scanning
+     */
+    private final Map<String, Map<Class<?>, Command>> registry = new HashMap<>();
+
+    /**
+     * Scan for the test commands. If there is an index of the test commands (generated at compile time by the
+     * {@link TestCommandProcessor}) on the classpath, only the classes listed in the index will be loaded. Else (or if
+     * the index is disabled via configuration) the whole classpath will be scanned for the test commands.
+     *
+     * @throws IOException if the classpath cannot be read
+     */
+    public static synchronized void scan() throws IOException {
+        final TestCommandScanner scanner = new TestCommandScanner();
+        if (!JExUnitConfig.getBooleanProperty(JExUnitConfig.ConfigKey.COMMAND_INDEX) || !scanner.scanIndex()) {
+            new AnnotationDetector(scanner).detect();
+        }
+
+        final Map<String, Map<Class<?>, Command>> found = new HashMap<>();
+        for (final Entry<String, Map<Class<?>, Command>> entry : scanner.registry.entrySet()) {
+            found.put(entry.getKey(), Collections.unmodifiableMap(entry.getValue()));
+        }
+        commands = Collections.unmodifiableMap(found);
+        commandTables.clear();
+    }
+
+    /**
+     * Register the test commands listed in the indexes found on the classpath.
+     *
+     * @return true, if there is at least one index on the classpath, else false
+     * @throws IOException if an index cannot be read
+     */
+    private boolean scanIndex() throws IOException {
+        final Enumeration<URL> indexes = getClass().getClassLoader().getResources(COMMAND_INDEX);
+        if (!indexes.hasMoreElements()) {
+            return false;
+        }
+
+        // the same class may be listed in multiple indexes (test-classes and classes)
+        final Set<String> entries = new LinkedHashSet<>();
+        while (indexes.hasMoreElements()) {
+            try (final BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(indexes.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        entries.add(line.trim());
+                    }
+                }
+            }
+        }
+
+        for (final String entry : entries) {
+            final String[] parts = entry.split(" ");
+            if (parts.length != 2) {
+                continue;
+            }
+            if (TestCommandProcessor.KIND_TYPE.equals(parts[0])) {
+                reportTypeAnnotation(TestCommand.class, parts[1]);
+            } else if (TestCommandProcessor.KIND_METHOD.equals(parts[0])) {
+                // all the annotated methods of the class will be registered at once
+                reportMethodAnnotation(TestCommand.class, parts[1], null);
+            }
+        }
+        return true;
+    }
 
     @SuppressWarnings("unchecked")
     @Override
@@ -97,15 +190,15 @@ public class TestCommandScanner implements TypeReporter, MethodReporter {
                 }
                 for (String command : commandNames) {
                     command = command.toLowerCase();
-                    if (!commands.containsKey(command)) {
-                        commands.put(command, new HashMap<>());
+                    if (!registry.containsKey(command)) {
+                        registry.put(command, new HashMap<>());
                     }
                     if (method == null) {
                         // test-command is implemented in a class
-                        commands.get(command).put(null, new Command(command, type, tc.fastFail()));
+                        registry.get(command).put(null, new Command(command, type, null, tc.fastFail(), tc.batch()));
                     } else {
                         // test-command is a method
-                        commands.get(command).put(type, new Command(command, type, method, tc.fastFail()));
+                        registry.get(command).put(type, new Command(command, type, method, tc.fastFail(), tc.batch()));
                     }
                 }
             }
@@ -167,35 +260,68 @@ public class TestCommandScanner implements TypeReporter, MethodReporter {
     /**
      * Get the Command for the given command-name and type.
      *
-     * @param command the excel-command
+     * @param command the excel-command (normalized, see {@link #normalizeCommandName(String)})
      * @param clazz   the type of the test-class
      * @return the command for the given class, if found, else null
      */
-    static Command getTestCommand(final String command, final Class<?> clazz) {
-        if (commands.containsKey(command)) {
-            final Map<Class<?>, Command> cmds = commands.get(command);
-
-            if (cmds != null && !cmds.isEmpty()) {
-                if (clazz == null) {
-                    if (cmds.containsKey(null)) {
-                        return cmds.get(null);
+    public static Command getTestCommand(final String command, final Class<?> clazz) {
+        return getCommandTable(clazz).get(command);
+    }
+
+    /**
+     * Get the table of the commands resolved for the given type of the test-class. The table maps the (normalized)
+     * command-names to the commands and is computed once per type.
+     *
+     * @param clazz the type of the test-class (may be null)
+     * @return the immutable table of the commands for the given type
+     */
+    public static Map<String, Command> getCommandTable(final Class<?> clazz) {
+        return commandTables.computeIfAbsent(clazz != null ? clazz : Void.class, k -> createCommandTable(clazz));
+    }
+
+    private static Map<String, Command> createCommandTable(final Class<?> clazz) {
+        final Map<String, Command> table = new HashMap<>();
+        for (final Entry<String, Map<Class<?>, Command>> entry : commands.entrySet()) {
+            final Command command = resolveCommand(entry.getValue(), clazz);
+            if (command != null) {
+                table.put(entry.getKey(), command);
+            }
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
+    /**
+     * Resolve the command for the given type of the test-class out of the implementations of a single command-name.
+     * The implementations of the type itself (or its superclasses) win over the "global" implementations.
+     */
+    private static Command resolveCommand(final Map<Class<?>, Command> cmds, final Class<?> clazz) {
+        if (cmds == null || cmds.isEmpty()) {
+            return null;
+        }
+        if (clazz != null) {
+            // not found? check superclass
+            Class<?> cls = clazz;
+            do {
+                if (cmds.containsKey(cls)) {
+                    final Command c = cmds.get(cls);
+                    if (c.getType() == Type.CLASS || c.getImplementation() == cls) {
+                        return c;
                     }
-                } else {
-                    // not found? check superclass
-                    Class<?> cls = clazz;
-                    do {
-                        if (cmds.containsKey(cls)) {
-                            final Command c = cmds.get(cls);
-                            if (c.getType() == Type.CLASS || c.getImplementation() == cls) {
-                                return c;
-                            }
-                        }
-                    } while ((cls = cls.getSuperclass()) != Object.class);
                 }
-                return cmds.get(null);
-            }
+            } while ((cls = cls.getSuperclass()) != null && cls != Object.class);
         }
-        return null;
+        return cmds.get(null);
+    }
+
+    /**
+     * Normalize the given command-name (as found in the test data) for looking up the command.
+     *
+     * @param command the command-name
+     * @return the normalized command-name
+     * @see TestCase#normalizeCommandName(String)
+     */
+    public static String normalizeCommandName(final String command) {
+        return TestCase.normalizeCommandName(command);
     }
 
     /**
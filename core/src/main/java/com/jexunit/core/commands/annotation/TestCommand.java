@@ -29,6 +29,16 @@ public @interface TestCommand {
      */
     boolean fastFail() default false;
 
+    /**
+     * Run the command once for all the consecutive rows (test-cases) of the same command instead of once per row. The
+     * parameters of the method have to be {@link java.util.List}s of the entities, test-parameters or test-cases (one
+     * element per row), the TestContext or instances out of the context. To attribute a failure to a single row, the
+     * command can throw a {@link com.jexunit.core.commands.BatchException}.
+     *
+     * @return true, if the command is run for a batch of test-cases, else false (default)
+     */
+    boolean batch() default false;
+
     /**
      * Annotation for representing a method as the implementation for multiple test-commands.
      *
@@ -2,6 +2,8 @@ package com.jexunit.core.commands.validation;
 
 import com.jexunit.core.JExUnitConfig;
 import com.jexunit.core.commands.TestCommandScanner;
+import com.jexunit.core.metrics.Metrics;
+import com.jexunit.core.metrics.Phase;
 import com.jexunit.core.model.TestCase;
 
 import java.util.Collection;
@@ -21,26 +23,44 @@ public class CommandValidator {
      *
      * @param testData test data (loaded by a data provider)
      */
+    @SuppressWarnings("unchecked")
     public static void validateCommands(final Collection<Object[]> testData) {
+        for (final Object[] objects : testData) {
+            validateTestCases((List<TestCase<?>>) objects[0]);
+        }
+    }
+
+    /**
+     * Validates the test cases of a single test group (i.e. a worksheet) after they are parsed.
+     *
+     * @param testCases the test cases of the test group
+     */
+    public static void validateTestCases(final List<TestCase<?>> testCases) {
         final ValidationType validationType = ValidationType
                 .valueOf(JExUnitConfig.getStringProperty(JExUnitConfig.ConfigKey.COMMAND_VALIDATION_TYPE));
         if (validationType == ValidationType.IGNORE) {
             return;
         }
-        for (final Object[] objects : testData) {
-            final List<TestCase<?>> testCases = (List<TestCase<?>>) objects[0];
-            final Iterator<TestCase<?>> iterator = testCases.iterator();
-            while (iterator.hasNext()) {
-                final TestCase<?> testCase = iterator.next();
-                if (!TestCommandScanner.isTestCommandValid(testCase.getTestCommand().toLowerCase())) {
-                    if (validationType == ValidationType.WARN) {
-                        log.log(Level.WARNING, "TestCommand {0} is not valid. TestCase will be removed! {1} {2}",
-                                new String[]{testCase.getTestCommand(),
-                                        testCase.getMetadata().getDetailedIdentifier(), testCase.getComment()});
-                        iterator.remove();
-                    } else if (validationType == ValidationType.FAIL) {
-                        fail(String.format("TestCommand %s is not valid.", testCase.getTestCommand()));
-                    }
+        final long start = Metrics.start();
+        try {
+            validateTestCases(testCases, validationType);
+        } finally {
+            Metrics.stop(Phase.VALIDATE, start);
+        }
+    }
+
+    private static void validateTestCases(final List<TestCase<?>> testCases, final ValidationType validationType) {
+        final Iterator<TestCase<?>> iterator = testCases.iterator();
+        while (iterator.hasNext()) {
+            final TestCase<?> testCase = iterator.next();
+            if (!TestCommandScanner.isTestCommandValid(testCase.getNormalizedTestCommand())) {
+                if (validationType == ValidationType.WARN) {
+                    log.log(Level.WARNING, "TestCommand {0} is not valid. TestCase will be removed! {1} {2}",
+                            new String[]{testCase.getTestCommand(),
+                                    testCase.getMetadata().getDetailedIdentifier(), testCase.getComment()});
+                    iterator.remove();
+                } else if (validationType == ValidationType.FAIL) {
+                    fail(String.format("TestCommand %s is not valid.", testCase.getTestCommand()));
                 }
             }
         }
@@ -15,6 +15,22 @@ public class TestContext {
 
     private final ConcurrentHashMap<String, Object> store = new ConcurrentHashMap<>();
 
+    /**
+     * Create a new (empty) TestContext.
+     */
+    public TestContext() {
+    }
+
+    /**
+     * Create a new TestContext containing all the entries of the given parent context. Entries added to the new
+     * context will not be visible in the parent context (and vice versa).
+     *
+     * @param parent the context to copy the entries from
+     */
+    public TestContext(final TestContext parent) {
+        store.putAll(parent.store);
+    }
+
     /**
      * Add the given value of type T to the TestContext. This will add the value by its type as key (for lookup).<br>
      * Attention: you can only have one instance per key in the TestContext!
@@ -23,6 +23,23 @@ public class TestContextManager {
         return context.get();
     }
 
+    /**
+     * Set the TestContext for the current thread. This is used for running tests concurrently, so each test gets its
+     * own TestContext.
+     *
+     * @param testContext the TestContext for the current thread
+     */
+    public static void setTestContext(final TestContext testContext) {
+        context.set(testContext);
+    }
+
+    /**
+     * Remove the TestContext of the current thread. A new (empty) TestContext will be created on next access.
+     */
+    public static void removeTestContext() {
+        context.remove();
+    }
+
     /**
      * Add an instance of type T to the context. An already existing instance of this type will be overridden!
      *
@@ -0,0 +1,255 @@
+package com.jexunit.core.data;
+
+import com.jexunit.core.model.HeaderSchema;
+import com.jexunit.core.model.TestCell;
+import ognl.MethodFailedException;
+import ognl.Ognl;
+import ognl.OgnlRuntime;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled plan for setting the values of a test-case (identified by the header layout) to an object of a given
+ * class. The plan is computed once per (class, header layout) and reused for all the rows of this layout.
+ * <p>
+ * Simple properties with a type supported by {@link PropertyUtils} will be set calling the setter directly. All the
+ * other properties (nested properties, collections, ...) will be set via pre-parsed ognl expressions. If a value
+ * cannot be set directly (for example <code>null</code> for a primitive or an invalid number) the ognl expression will
+ * be used as well, so the behavior is the same as setting all the values via {@link OgnlUtils}.
+ * </p>
+ *
+ * @author fabian
+ */
+class BindingPlan {
+
+    private static final Pattern SIMPLE_PROPERTY = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private static final Set<Class<?>> DIRECT_TYPES = new HashSet<>(Arrays.asList(String.class, Integer.class,
+            int.class, Double.class, double.class, Long.class, long.class, Float.class, float.class, Boolean.class,
+            boolean.class, BigDecimal.class, Date.class));
+
+    private static final Map<LayoutKey, BindingPlan> plans = new ConcurrentHashMap<>();
+    private final PropertyBinding[] bindings;
+
+    private BindingPlan(final Class<?> clazz, final List<String> propertyNames) {
+        OgnlUtils.registerHandlers(clazz);
+
+        bindings = new PropertyBinding[propertyNames.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            bindings[i] = createBinding(clazz, propertyNames.get(i));
+        }
+    }
+
+    /**
+     * Get the (cached) plan for the given class and property-names (the header layout of the test-case).
+     *
+     * @param clazz         the class of the objects to set the values to
+     * @param propertyNames the property-names (in the order of the values)
+     * @return the binding plan
+     */
+    static BindingPlan forLayout(final Class<?> clazz, final Collection<String> propertyNames) {
+        final LayoutKey key = new LayoutKey(clazz, new ArrayList<>(propertyNames));
+        BindingPlan plan = plans.get(key);
+        if (plan == null) {
+            plan = new BindingPlan(clazz, key.propertyNames);
+            final BindingPlan existing = plans.putIfAbsent(key, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Get the (cached) plan for the given class and header schema. The plan is held by the (interned) schema, so it is
+     * looked up without copying the keys and released together with the schema.
+     *
+     * @param clazz  the class of the objects to set the values to
+     * @param schema the header schema of the test-case
+     * @return the binding plan
+     */
+    static BindingPlan forSchema(final Class<?> clazz, final HeaderSchema schema) {
+        return schema.getDerived(clazz, (s, c) -> forLayout(c, s.getKeys()));
+    }
+
+    /**
+     * Set the given values to the object. The values have to match the layout of the plan.
+     *
+     * @param object the object to set the values to
+     * @param values the values (in the order of the property-names of the plan)
+     * @throws Exception in case that something goes wrong
+     */
+    void bind(final Object object, final Collection<TestCell> values) throws Exception {
+        // the ognl context is created only if needed and reused for all the properties of the object
+        final OgnlBinding.Context context = new OgnlBinding.Context(object);
+        int i = 0;
+        for (final TestCell cell : values) {
+            bindings[i++].bind(object, cell, context);
+        }
+    }
+
+    private static PropertyBinding createBinding(final Class<?> clazz, final String propertyName) {
+        final OgnlBinding ognlBinding = new OgnlBinding(propertyName);
+        if (propertyName == null || !SIMPLE_PROPERTY.matcher(propertyName).matches()) {
+            return ognlBinding;
+        }
+
+        try {
+            final PropertyDescriptor pd = OgnlRuntime.getPropertyDescriptor(clazz, propertyName);
+            final Method setter = pd != null ? pd.getWriteMethod() : null;
+            if (setter != null && Modifier.isPublic(setter.getDeclaringClass().getModifiers())
+                    && (DIRECT_TYPES.contains(pd.getPropertyType()) || pd.getPropertyType().isEnum())) {
+                return new SetterBinding(setter, pd.getPropertyType(), ognlBinding);
+            }
+        } catch (final Exception e) {
+            // no direct access possible, so ognl will be used
+        }
+        return ognlBinding;
+    }
+
+    /**
+     * Binding of a single property (column) of the test-case.
+     */
+    private interface PropertyBinding {
+
+        void bind(Object object, TestCell cell, OgnlBinding.Context context) throws Exception;
+    }
+
+    /**
+     * Binding via calling the setter of the property directly.
+     */
+    private static class SetterBinding implements PropertyBinding {
+
+        private final Method setter;
+        private final Class<?> type;
+        private final OgnlBinding fallback;
+
+        SetterBinding(final Method setter, final Class<?> type, final OgnlBinding fallback) {
+            this.setter = setter;
+            this.type = type;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public void bind(final Object object, final TestCell cell, final OgnlBinding.Context context)
+                throws Exception {
+            final Object converted;
+            try {
+                converted = PropertyUtils.convertCellToObject(type, cell);
+            } catch (final Exception e) {
+                fallback.bind(object, cell, context);
+                return;
+            }
+            if (converted == null && type.isPrimitive()) {
+                fallback.bind(object, cell, context);
+                return;
+            }
+
+            try {
+                setter.invoke(object, converted);
+            } catch (final InvocationTargetException e) {
+                // report the exception the same way ognl does
+                throw new MethodFailedException(object, setter.getName(), e.getTargetException());
+            }
+        }
+    }
+
+    /**
+     * Binding via a pre-parsed ognl expression.
+     */
+    private static class OgnlBinding implements PropertyBinding {
+
+        private final String propertyName;
+        private final Object expression;
+
+        OgnlBinding(final String propertyName) {
+            this.propertyName = propertyName;
+            Object expr;
+            try {
+                expr = OgnlUtils.parseExpression(propertyName);
+            } catch (final Exception e) {
+                // the error will be reported on setting the value
+                expr = null;
+            }
+            this.expression = expr;
+        }
+
+        @Override
+        public void bind(final Object object, final TestCell cell, final Context context) throws Exception {
+            final String value = cell != null ? cell.getValue() : null;
+            if (expression == null) {
+                OgnlUtils.setPropertyToObject(object, propertyName, value);
+            } else {
+                Ognl.setValue(expression, context.get(), object, value);
+            }
+        }
+
+        /**
+         * Lazily created ognl context for one object.
+         */
+        static class Context {
+
+            private final Object root;
+            @SuppressWarnings("rawtypes")
+            private Map context;
+
+            Context(final Object root) {
+                this.root = root;
+            }
+
+            @SuppressWarnings("rawtypes")
+            Map get() {
+                if (context == null) {
+                    context = OgnlUtils.createContext(root);
+                }
+                return context;
+            }
+        }
+    }
+
+    /**
+     * Key of the plan: class and header layout.
+     */
+    private static class LayoutKey {
+
+        private final Class<?> clazz;
+        private final List<String> propertyNames;
+
+        LayoutKey(final Class<?> clazz, final List<String> propertyNames) {
+            this.clazz = clazz;
+            this.propertyNames = propertyNames;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LayoutKey)) {
+                return false;
+            }
+            final LayoutKey other = (LayoutKey) o;
+            return clazz == other.clazz && propertyNames.equals(other.propertyNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * clazz.hashCode() + propertyNames.hashCode();
+        }
+    }
+
+}
@@ -7,6 +7,7 @@ import ognl.OgnlRuntime;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,10 +17,18 @@ import java.util.regex.Pattern;
 public class OgnlUtils {
 
     private static final String REGEX_EXPRESSION = "^(.*)(\\[)(.*)=(.*)(\\].*)";
+    private static final Pattern PATTERN_EXPRESSION = Pattern.compile(REGEX_EXPRESSION);
+
+    // the classes the ognl runtime handlers are already registered for
+    private static final Set<Class<?>> registeredClasses = ConcurrentHashMap.newKeySet();
+
+    static {
+        OgnlRuntime.setPropertyAccessor(List.class, new CustomListPropertyAccessor());
+        OgnlRuntime.setPropertyAccessor(Set.class, new CustomSetPropertyAccessor());
+    }
 
     public static String prepareExpression(final String expression) {
-        final Pattern pattern = Pattern.compile(REGEX_EXPRESSION);
-        final Matcher m = pattern.matcher(expression);
+        final Matcher m = PATTERN_EXPRESSION.matcher(expression);
 
         if (m.matches()) {
             final StringBuilder sb = new StringBuilder(m.group(1));
@@ -51,29 +60,48 @@ public class OgnlUtils {
      * @throws OgnlException in case that something goes wrong
      */
     public static void setPropertyToObject(final Object obj, final String propName, final String propValue) throws OgnlException {
-        OgnlRuntime.setNullHandler(obj.getClass(), new InstantiatingNullHandler());
-        OgnlRuntime.setPropertyAccessor(List.class, new CustomListPropertyAccessor());
-        OgnlRuntime.setPropertyAccessor(Set.class, new CustomSetPropertyAccessor());
-        @SuppressWarnings("rawtypes") final Map context = Ognl.createDefaultContext(obj);
-        Ognl.setTypeConverter(context, new CustomTypeConverter());
+        Ognl.setValue(parseExpression(propName), createContext(obj), obj, propValue);
+    }
 
-        final String propertyExpression = prepareExpression(propName);
-        final Object expr = Ognl.parseExpression(propertyExpression);
+    public static Object getProperty(final Object obj, final String propName) throws OgnlException {
+        return Ognl.getValue(parseExpression(propName), createContext(obj), obj);
+    }
 
-        Ognl.setValue(expr, context, obj, propValue);
+    /**
+     * Parse the given property-name into an ognl expression. The parsed expression can be reused for multiple objects.
+     *
+     * @param propName property-name
+     * @return the parsed ognl expression
+     * @throws OgnlException in case that the property-name is not a valid expression
+     */
+    static Object parseExpression(final String propName) throws OgnlException {
+        return Ognl.parseExpression(prepareExpression(propName));
     }
 
-    public static Object getProperty(final Object obj, final String propName) throws OgnlException {
-        OgnlRuntime.setNullHandler(obj.getClass(), new InstantiatingNullHandler());
-        OgnlRuntime.setPropertyAccessor(List.class, new CustomListPropertyAccessor());
-        OgnlRuntime.setPropertyAccessor(Set.class, new CustomSetPropertyAccessor());
-        @SuppressWarnings("rawtypes") final Map context = Ognl.createDefaultContext(obj);
+    /**
+     * Create the ognl context for evaluating expressions on the given object. The ognl runtime handlers for the class
+     * of the object will be registered on first use.
+     *
+     * @param obj object/instance (root of the context)
+     * @return the ognl context
+     */
+    @SuppressWarnings("rawtypes")
+    static Map createContext(final Object obj) {
+        registerHandlers(obj.getClass());
+        final Map context = Ognl.createDefaultContext(obj);
         Ognl.setTypeConverter(context, new CustomTypeConverter());
+        return context;
+    }
 
-        final String propertyExpression = prepareExpression(propName);
-        final Object expr = Ognl.parseExpression(propertyExpression);
-
-        return Ognl.getValue(expr, context, obj);
+    /**
+     * Register the ognl runtime handlers for the given class (only once per class).
+     *
+     * @param clazz the class to register the handlers for
+     */
+    static void registerHandlers(final Class<?> clazz) {
+        if (registeredClasses.add(clazz)) {
+            OgnlRuntime.setNullHandler(clazz, new InstantiatingNullHandler());
+        }
     }
 
 }
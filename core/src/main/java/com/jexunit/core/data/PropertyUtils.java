@@ -1,6 +1,7 @@
 package com.jexunit.core.data;
 
 import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.model.TestCell;
 
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
@@ -61,4 +62,47 @@ class PropertyUtils {
         }
     }
 
+    /**
+     * Convert the value of the given cell to the given type. If the typed value of the cell (see
+     * {@link TestCell#getTypedValue()}) matches the type, it will be converted without parsing the String view of the
+     * value. Otherwise the String view will be converted via {@link #convertPropertyStringToObject(Class, String)}.
+     *
+     * @param clazz the type of the property (to convert the property to)
+     * @param cell  the cell containing the property-value
+     * @return the property-value (converted to the expected type)
+     * @throws ParseException            if the value cannot be converted
+     * @throws IllegalAccessException    if the value cannot be converted to an enum
+     * @throws InvocationTargetException if the value cannot be converted to an enum
+     * @throws NoSuchMethodException     if the value cannot be converted to an enum
+     */
+    public static Object convertCellToObject(final Class<?> clazz, final TestCell cell)
+            throws ParseException, InvocationTargetException, NoSuchMethodException, IllegalAccessException {
+        if (cell == null) {
+            return null;
+        }
+        final Object value = cell.getTypedValue();
+        if (value instanceof Double) {
+            final double d = (Double) value;
+            if (clazz == Integer.class || clazz == int.class) {
+                return (int) d;
+            } else if (clazz == Double.class || clazz == double.class) {
+                return value;
+            } else if (clazz == Long.class || clazz == long.class) {
+                return (long) d;
+            } else if (clazz == BigDecimal.class) {
+                return BigDecimal.valueOf(d);
+            }
+        } else if (value instanceof Boolean) {
+            if (clazz == Boolean.class || clazz == boolean.class) {
+                return value;
+            }
+        } else if (value instanceof Date) {
+            if (clazz == Date.class) {
+                // the date is mutable, so each property gets its own instance
+                return new Date(((Date) value).getTime());
+            }
+        }
+        return convertPropertyStringToObject(clazz, cell.getValue());
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.jexunit.core.data;
 
+import com.jexunit.core.model.HeaderSchema;
 import com.jexunit.core.model.TestCase;
 import com.jexunit.core.model.TestCell;
 
@@ -41,9 +42,11 @@ public class TestObjectHelper {
      * @throws Exception in case that something goes wrong
      */
     public static <T> T createObject(final TestCase<?> testCase, final T object) throws Exception {
-        for (final Map.Entry<String, TestCell> entry : testCase.getValues().entrySet()) {
-            OgnlUtils.setPropertyToObject(object, entry.getKey(), entry.getValue().getValue());
-        }
+        final Map<String, TestCell> values = testCase.getValues();
+        final HeaderSchema schema = testCase.getSchema();
+        final BindingPlan plan = schema != null ? BindingPlan.forSchema(object.getClass(), schema)
+                : BindingPlan.forLayout(object.getClass(), values.keySet());
+        plan.bind(object, values.values());
         return object;
     }
 
@@ -83,4 +86,21 @@ public class TestObjectHelper {
         return PropertyUtils.convertPropertyStringToObject(clazz, value);
     }
 
+    /**
+     * Convert the value of the given cell to the given type. The typed value of the cell will be used without parsing
+     * its String view if possible.
+     *
+     * @param clazz the type of the property (to convert the property to)
+     * @param cell  the cell containing the property-value
+     * @return the property-value (converted to the expected type)
+     * @throws ParseException            if the value cannot be converted
+     * @throws IllegalAccessException    if the value cannot be converted to an enum
+     * @throws InvocationTargetException if the value cannot be converted to an enum
+     * @throws NoSuchMethodException     if the value cannot be converted to an enum
+     */
+    public static Object convertCellToObject(final Class<?> clazz, final TestCell cell)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, ParseException {
+        return PropertyUtils.convertCellToObject(clazz, cell);
+    }
+
 }
@@ -0,0 +1,436 @@
+package com.jexunit.core.dataprovider;
+
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.commands.DefaultCommands;
+import com.jexunit.core.model.HeaderSchema;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * On-disk cache for the parsed test data of the excel-files. The cache-file is keyed by the hash of the content of the
+ * excel-file and the configuration affecting the parsing. So a cache hit will skip reading the excel-file with POI
+ * completely. The test data is stored in a compact binary format (each distinct string is written only once).
+ * <p>
+ * Only test data with {@link ExcelMetadata} can be cached. If the cache-file is corrupt or outdated, it will be
+ * ignored and the excel-file will be read again.
+ * </p>
+ *
+ * @author fabian
+ */
+class ExcelDataCache {
+
+    private static final Logger LOG = Logger.getLogger(ExcelDataCache.class.getName());
+
+    private static final int MAGIC = 0x4A455843;
+    /**
+     * version of the binary format, has to be incremented on each change of the format (or the model)!
+     */
+    private static final int FORMAT_VERSION = 6;
+
+    private static final int NULL_STRING = -1;
+    private static final int NEW_STRING = -2;
+
+    /**
+     * types of the (typed) values of the cells
+     */
+    private static final int VALUE_STRING = 0;
+    private static final int VALUE_DOUBLE = 1;
+    private static final int VALUE_BOOLEAN = 2;
+    private static final int VALUE_DATE = 3;
+
+    /**
+     * configuration affecting the parsing of the excel-files (and so the cached test data)
+     */
+    private static final JExUnitConfig.ConfigKey[] RELEVANT_CONFIG = {JExUnitConfig.ConfigKey.DATE_PATTERN,
+            JExUnitConfig.ConfigKey.COMMAND_STATEMENT, JExUnitConfig.ConfigKey.DEFAULTCOMMAND_PREFIX,
+            JExUnitConfig.ConfigKey.EXCEL_STREAMING, JExUnitConfig.ConfigKey.EXCEL_FORMULA_CACHED_RESULTS};
+
+    // Utility class, only static access
+    private ExcelDataCache() {
+    }
+
+    /**
+     * Check, if the cache is enabled.
+     *
+     * @return true, if the cache is enabled, else false
+     */
+    static boolean isEnabled() {
+        return JExUnitConfig.getBooleanProperty(JExUnitConfig.ConfigKey.EXCEL_CACHE);
+    }
+
+    /**
+     * Get the test data of the excel-file out of the cache. If the test data is not cached yet, it will be read via
+     * the given loader and stored in the cache.
+     *
+     * @param excelFilePath the path to the excel-file
+     * @param filter        the filter for the worksheets read (part of the key of the cache-file)
+     * @param loader        the loader for reading the excel-file on a cache miss
+     * @return a map with the excel worksheet name as key and the list of {@link TestCase}s as value
+     * @throws Exception in case that something goes wrong
+     */
+    static Map<String, List<TestCase<?>>> load(final String excelFilePath, final WorksheetFilter filter,
+                                               final Callable<Map<String, List<TestCase<?>>>> loader) throws Exception {
+        final Path excelFile = Paths.get(excelFilePath);
+        if (!Files.isRegularFile(excelFile)) {
+            // let the loader report the missing file
+            return loader.call();
+        }
+
+        final Path cacheFile = Paths.get(JExUnitConfig.getStringProperty(JExUnitConfig.ConfigKey.EXCEL_CACHE_DIRECTORY),
+                cacheKey(excelFile, filter) + ".bin");
+        if (Files.isRegularFile(cacheFile)) {
+            try {
+                return read(cacheFile);
+            } catch (final IOException e) {
+                LOG.log(Level.WARNING, String.format("Ignoring the corrupt cache-file '%s'.", cacheFile), e);
+            }
+        }
+
+        final Map<String, List<TestCase<?>>> tests = loader.call();
+        try {
+            write(cacheFile, tests);
+        } catch (final IOException e) {
+            LOG.log(Level.WARNING, String.format("Error writing the cache-file '%s'.", cacheFile), e);
+        }
+        return tests;
+    }
+
+    /**
+     * Calculate the key for the cache-file out of the content of the excel-file and the relevant configuration.
+     *
+     * @param excelFile the excel-file
+     * @param filter    the filter for the worksheets read
+     * @return the (hex-encoded) key for the cache-file
+     * @throws Exception in case that something goes wrong
+     */
+    static String cacheKey(final Path excelFile, final WorksheetFilter filter) throws Exception {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+        digest.update(String.valueOf(FORMAT_VERSION).getBytes(StandardCharsets.UTF_8));
+        for (final JExUnitConfig.ConfigKey key : RELEVANT_CONFIG) {
+            updateDigest(digest, JExUnitConfig.getStringProperty(key));
+        }
+        for (final DefaultCommands defaultCommand : DefaultCommands.values()) {
+            updateDigest(digest, JExUnitConfig.getDefaultCommandProperty(defaultCommand));
+        }
+        updateDigest(digest, filter.getKey());
+
+        final byte[] buffer = new byte[64 * 1024];
+        try (final InputStream in = Files.newInputStream(excelFile)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static void updateDigest(final MessageDigest digest, final String value) {
+        // separate the values, so the concatenation of different values cannot result in the same key
+        digest.update((byte) 0);
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Read the test data out of the cache-file.
+     *
+     * @param cacheFile the cache-file to read
+     * @return a map with the excel worksheet name as key and the list of {@link TestCase}s as value
+     * @throws IOException in case that the cache-file cannot be read or is not valid
+     */
+    static Map<String, List<TestCase<?>>> read(final Path cacheFile) throws IOException {
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unknown format of the cache-file.");
+            }
+            final StringTableReader strings = new StringTableReader(in);
+
+            final int sheets = in.readInt();
+            final Map<String, List<TestCase<?>>> tests = new LinkedHashMap<>();
+            for (int i = 0; i < sheets; i++) {
+                final String sheet = strings.read();
+                final int size = in.readInt();
+                final List<TestCase<?>> testCases = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    testCases.add(readTestCase(in, strings, sheet));
+                }
+                tests.put(sheet, testCases);
+            }
+            return tests;
+        }
+    }
+
+    private static TestCase<ExcelMetadata> readTestCase(final DataInputStream in, final StringTableReader strings,
+                                                        final String sheet) throws IOException {
+        final int row = in.readInt();
+        final String testCommand = strings.read();
+        final String comment = strings.read();
+        final int flags = in.readShort();
+        final String error = (flags & 256) != 0 ? strings.read() : null;
+        final Long maxMillis = (flags & 32) != 0 ? in.readLong() : null;
+        Integer repeat = null;
+        Integer warmup = null;
+        Double percentile = null;
+        if ((flags & 64) != 0) {
+            repeat = readOptionalInt(in);
+            warmup = readOptionalInt(in);
+            final double p = in.readDouble();
+            percentile = Double.isNaN(p) ? null : p;
+        }
+
+        final int values = in.readInt();
+        final List<String> keys = new ArrayList<>(values);
+        final List<TestCell> cells = new ArrayList<>(values);
+        for (int i = 0; i < values; i++) {
+            keys.add(strings.read());
+            final int column = in.readInt();
+            cells.add(new TestCell(column, readValue(in, strings)));
+        }
+
+        final TestCase<ExcelMetadata> testCase = new TestCase<>(new ExcelMetadata(), HeaderSchema.of(keys));
+        testCase.getMetadata().setSheet(sheet);
+        testCase.getMetadata().setRow(row);
+        testCase.setTestCommand(testCommand);
+        testCase.setComment(comment);
+
+        testCase.setDisabled((flags & 1) != 0);
+        testCase.setExceptionExpected((flags & 2) != 0);
+        testCase.setBreakpointEnabled((flags & 4) != 0);
+        testCase.setBarrier((flags & 128) != 0);
+        if ((flags & 8) != 0) {
+            testCase.setFastFail((flags & 16) != 0);
+        }
+        testCase.setMaxMillis(maxMillis);
+        testCase.setRepeat(repeat);
+        testCase.setWarmup(warmup);
+        testCase.setPercentile(percentile);
+        testCase.setError(error);
+
+        for (int i = 0; i < values; i++) {
+            testCase.getValues().put(keys.get(i), cells.get(i));
+        }
+        return testCase;
+    }
+
+    private static Object readValue(final DataInputStream in, final StringTableReader strings) throws IOException {
+        final int type = in.readByte();
+        switch (type) {
+            case VALUE_STRING:
+                return strings.read();
+            case VALUE_DOUBLE:
+                return in.readDouble();
+            case VALUE_BOOLEAN:
+                return in.readBoolean();
+            case VALUE_DATE:
+                return new Date(in.readLong());
+            default:
+                throw new IOException("Invalid type of a value in the cache-file: " + type);
+        }
+    }
+
+    private static Integer readOptionalInt(final DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    /**
+     * Write the test data to the cache-file. The file will be written to a temporary file first and moved afterwards,
+     * so parallel running JVMs will never read a partially written cache-file.
+     *
+     * @param cacheFile the cache-file to write
+     * @param tests     the test data to write
+     * @throws IOException in case that something goes wrong
+     */
+    static void write(final Path cacheFile, final Map<String, List<TestCase<?>>> tests) throws IOException {
+        for (final List<TestCase<?>> testCases : tests.values()) {
+            for (final TestCase<?> testCase : testCases) {
+                if (!(testCase.getMetadata() instanceof ExcelMetadata)) {
+                    // only the test data of the excel-files can be cached
+                    return;
+                }
+            }
+        }
+
+        Files.createDirectories(cacheFile.getParent());
+        final Path tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+        try {
+            try (final DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                final StringTableWriter strings = new StringTableWriter(out);
+
+                out.writeInt(tests.size());
+                for (final Map.Entry<String, List<TestCase<?>>> entry : tests.entrySet()) {
+                    strings.write(entry.getKey());
+                    out.writeInt(entry.getValue().size());
+                    for (final TestCase<?> testCase : entry.getValue()) {
+                        writeTestCase(out, strings, testCase);
+                    }
+                }
+            }
+            try {
+                Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void writeTestCase(final DataOutputStream out, final StringTableWriter strings,
+                                      final TestCase<?> testCase) throws IOException {
+        out.writeInt(((ExcelMetadata) testCase.getMetadata()).getRow());
+        strings.write(testCase.getTestCommand());
+        strings.write(testCase.getComment());
+
+        int flags = 0;
+        flags |= testCase.isDisabled() ? 1 : 0;
+        flags |= testCase.isExceptionExpected() ? 2 : 0;
+        flags |= testCase.isBreakpointEnabled() ? 4 : 0;
+        flags |= testCase.getFastFail() != null ? 8 : 0;
+        flags |= testCase.isFastFail() ? 16 : 0;
+        flags |= testCase.getMaxMillis() != null ? 32 : 0;
+        final boolean isBenchmark = testCase.getRepeat() != null || testCase.getWarmup() != null
+                || testCase.getPercentile() != null;
+        flags |= isBenchmark ? 64 : 0;
+        flags |= testCase.isBarrier() ? 128 : 0;
+        flags |= testCase.getError() != null ? 256 : 0;
+        out.writeShort(flags);
+        if (testCase.getError() != null) {
+            strings.write(testCase.getError());
+        }
+        if (testCase.getMaxMillis() != null) {
+            out.writeLong(testCase.getMaxMillis());
+        }
+        if (isBenchmark) {
+            writeOptionalInt(out, testCase.getRepeat());
+            writeOptionalInt(out, testCase.getWarmup());
+            out.writeDouble(testCase.getPercentile() != null ? testCase.getPercentile() : Double.NaN);
+        }
+
+        out.writeInt(testCase.getValues().size());
+        for (final Map.Entry<String, TestCell> entry : testCase.getValues().entrySet()) {
+            strings.write(entry.getKey());
+            out.writeInt(entry.getValue().getColumnNumber());
+            writeValue(out, strings, entry.getValue());
+        }
+    }
+
+    private static void writeValue(final DataOutputStream out, final StringTableWriter strings, final TestCell cell)
+            throws IOException {
+        final Object value = cell.getTypedValue();
+        if (value instanceof Double) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Date) {
+            out.writeByte(VALUE_DATE);
+            out.writeLong(((Date) value).getTime());
+        } else {
+            out.writeByte(VALUE_STRING);
+            strings.write(cell.getValue());
+        }
+    }
+
+    private static void writeOptionalInt(final DataOutputStream out, final Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    /**
+     * Writer for the strings. Each distinct string will be written only once, further occurrences will be written as
+     * reference (index) to the first one.
+     */
+    private static class StringTableWriter {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> table = new HashMap<>();
+
+        StringTableWriter(final DataOutputStream out) {
+            this.out = out;
+        }
+
+        void write(final String value) throws IOException {
+            if (value == null) {
+                out.writeInt(NULL_STRING);
+                return;
+            }
+            final Integer index = table.get(value);
+            if (index != null) {
+                out.writeInt(index);
+                return;
+            }
+            table.put(value, table.size());
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(NEW_STRING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Reader for the strings written by the {@link StringTableWriter}.
+     */
+    private static class StringTableReader {
+
+        private final DataInputStream in;
+        private final List<String> table = new ArrayList<>();
+
+        StringTableReader(final DataInputStream in) {
+            this.in = in;
+        }
+
+        String read() throws IOException {
+            final int index = in.readInt();
+            if (index == NULL_STRING) {
+                return null;
+            }
+            if (index == NEW_STRING) {
+                final byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                final String value = new String(bytes, StandardCharsets.UTF_8);
+                table.add(value);
+                return value;
+            }
+            if (index < 0 || index >= table.size()) {
+                throw new IOException("Invalid string reference in the cache-file: " + index);
+            }
+            return table.get(index);
+        }
+    }
+
+}
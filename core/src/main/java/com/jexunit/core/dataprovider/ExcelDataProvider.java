@@ -1,19 +1,34 @@
 package com.jexunit.core.dataprovider;
 
-import com.jexunit.core.spi.data.DataProvider;
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.spi.data.StreamingDataProvider;
+import com.jexunit.core.spi.data.TestDataCursor;
 
 import java.lang.reflect.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * DataProvider implementation for reading the test data out of excel files.
  *
  * @author fabian
  */
-public class ExcelDataProvider implements DataProvider {
+public class ExcelDataProvider implements StreamingDataProvider {
+
+    /**
+     * pool for loading the excel-files concurrently, created on first use
+     */
+    private static ExecutorService loaderPool;
 
     private Class<?> testClass;
 
@@ -22,6 +37,11 @@ public class ExcelDataProvider implements DataProvider {
 
     private boolean worksheetAsTest;
 
+    private WorksheetFilter worksheetFilter;
+
+    // the excel-files loaded concurrently (if parallel loading is enabled)
+    private List<Future<Collection<Object[]>>> preloadedTestData;
+
     @Override
     public boolean canProvide(final Class<?> testClass) {
         int annotatedFields = 0;
@@ -59,8 +79,55 @@ public class ExcelDataProvider implements DataProvider {
 
         this.excelFileNames = new ArrayList<>();
         this.worksheetAsTest = true;
+        this.worksheetFilter = WorksheetFilter.fromConfig();
+        this.preloadedTestData = null;
 
         readExcelFileNames();
+
+        if (excelFileNames.size() > 1 && !isStreamable(0)
+                && JExUnitConfig.getBooleanProperty(JExUnitConfig.ConfigKey.EXCEL_PARALLEL_LOADING)) {
+            preloadTestData();
+        }
+    }
+
+    /**
+     * Start loading all the excel-files concurrently. The results will be returned by {@link #loadTestData(int)}.
+     */
+    private void preloadTestData() {
+        final ExecutorService pool = getLoaderPool();
+        final boolean asTest = worksheetAsTest;
+        final WorksheetFilter filter = worksheetFilter;
+
+        preloadedTestData = new ArrayList<>(excelFileNames.size());
+        for (final String excelFileName : excelFileNames) {
+            preloadedTestData.add(pool.submit(() -> ExcelLoader.loadTestData(excelFileName, asTest, filter)));
+        }
+    }
+
+    /**
+     * Get the (bounded) pool for loading the excel-files concurrently. The threads are daemon threads and will be
+     * released if idle, so the pool doesn't have to be shut down.
+     *
+     * @return the pool for loading the excel-files
+     */
+    private static synchronized ExecutorService getLoaderPool() {
+        if (loaderPool == null) {
+            int threads = JExUnitConfig.getIntProperty(JExUnitConfig.ConfigKey.EXCEL_LOADING_THREADS);
+            if (threads <= 0) {
+                threads = Runtime.getRuntime().availableProcessors();
+            }
+
+            final AtomicInteger threadNumber = new AtomicInteger();
+            final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), r -> {
+                final Thread thread = new Thread(r, "jexunit-excel-loader-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            pool.allowCoreThreadTimeOut(true);
+            loaderPool = pool;
+        }
+        return loaderPool;
     }
 
     @Override
@@ -87,7 +154,65 @@ public class ExcelDataProvider implements DataProvider {
             throw new IllegalArgumentException("The ExcelDataProvider cannot provide test data for test number " + test
                     + "!");
         }
-        return ExcelLoader.loadTestData(excelFileNames.get(test), worksheetAsTest);
+
+        final Future<Collection<Object[]>> preloaded = preloadedTestData != null ? preloadedTestData.get(test) : null;
+        if (preloaded != null) {
+            // the test data is only needed once, so release it
+            preloadedTestData.set(test, null);
+            try {
+                return preloaded.get();
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return ExcelLoader.loadTestData(excelFileNames.get(test), worksheetAsTest, worksheetFilter);
+    }
+
+    @Override
+    public boolean isStreamable(final int test) {
+        // only worksheets can be streamed, if each test-case should run as single test, all the test-cases have to be
+        // known in advance
+        return worksheetAsTest && (JExUnitConfig.getBooleanProperty(JExUnitConfig.ConfigKey.EXCEL_STREAMING)
+                || JExUnitConfig.getBooleanProperty(JExUnitConfig.ConfigKey.EXCEL_LAZY_DISCOVERY));
+    }
+
+    @Override
+    public TestDataCursor openTestData(final int test) throws Exception {
+        if (excelFileNames == null || test >= excelFileNames.size() || test < 0) {
+            throw new IllegalArgumentException("The ExcelDataProvider cannot provide test data for test number " + test
+                    + "!");
+        }
+        final String excelFileName = excelFileNames.get(test);
+        if (JExUnitConfig.getBooleanProperty(JExUnitConfig.ConfigKey.EXCEL_STREAMING)) {
+            return new ExcelTestDataCursor(excelFileName, worksheetFilter);
+        }
+        // lazy discovery: only the names of the worksheets are read, the worksheets are read on demand
+        final List<String> worksheets = new ArrayList<>();
+        for (final String worksheet : ExcelStreamReader.readWorksheetNames(excelFileName)) {
+            if (worksheetFilter.accept(worksheet)) {
+                worksheets.add(worksheet);
+            }
+        }
+        return new LazyExcelTestDataCursor(worksheets, worksheet -> loadWorksheet(test, worksheet));
+    }
+
+    /**
+     * Load the test data of a single worksheet for the lazy discovery. Only the requested worksheet is read (the other
+     * worksheets are skipped before their rows are read), so no test data of the other worksheets is held. The formulas
+     * are evaluated like without lazy discovery, because the reader opens the whole workbook regardless of the filter.
+     *
+     * @param test      the number of the test (excel-file)
+     * @param worksheet the name of the worksheet
+     * @return the test-cases of the worksheet
+     * @throws Exception in case that something goes wrong
+     */
+    private List<TestCase<?>> loadWorksheet(final int test, final String worksheet) throws Exception {
+        final List<TestCase<?>> testCases = ExcelLoader.readExcel(excelFileNames.get(test),
+                worksheetFilter.only(worksheet)).get(worksheet);
+        return testCases != null ? testCases : new ArrayList<>();
     }
 
     /**
@@ -163,6 +288,7 @@ public class ExcelDataProvider implements DataProvider {
 
             final ExcelFile annotation = field.getAnnotation(ExcelFile.class);
             worksheetAsTest = annotation.worksheetAsTest();
+            worksheetFilter = WorksheetFilter.of(annotation);
 
             final boolean isFieldAccessible = field.isAccessible();
             if (!isFieldAccessible) {
@@ -208,6 +334,7 @@ public class ExcelDataProvider implements DataProvider {
 
             final ExcelFile annotation = method.getAnnotation(ExcelFile.class);
             worksheetAsTest = annotation.worksheetAsTest();
+            worksheetFilter = WorksheetFilter.of(annotation);
 
             if (returnType == String.class) {
                 excelFileNames.add((String) method.invoke(null));
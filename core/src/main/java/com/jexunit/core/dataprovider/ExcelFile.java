@@ -17,4 +17,17 @@ public @interface ExcelFile {
 
 	boolean worksheetAsTest() default true;
 
+	/**
+	 * Regular expressions for the names of the worksheets to read. If empty, all the worksheets will be read.
+	 * Worksheets not matching will be skipped before their rows are read. This can be overridden via the configuration
+	 * (<i>jexunit.excel.sheets.include</i>).
+	 */
+	String[] includeSheets() default {};
+
+	/**
+	 * Regular expressions for the names of the worksheets to skip (before their rows are read). This can be overridden
+	 * via the configuration (<i>jexunit.excel.sheets.exclude</i>).
+	 */
+	String[] excludeSheets() default {};
+
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.jexunit.core.dataprovider;
 
 import com.jexunit.core.JExUnitConfig;
-import com.jexunit.core.commands.DefaultCommands;
+import com.jexunit.core.metrics.FlightRecorderEvents;
+import com.jexunit.core.metrics.Metrics;
+import com.jexunit.core.metrics.Phase;
 import com.jexunit.core.model.TestCase;
 import com.jexunit.core.model.TestCell;
 import org.apache.poi.hssf.usermodel.HSSFDateUtil;
@@ -16,7 +18,6 @@ import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import java.io.FileNotFoundException;
-import java.text.SimpleDateFormat;
 import java.util.*;
 
 /**
@@ -43,7 +44,22 @@ public class ExcelLoader {
      * @throws Exception in case that something goes wrong
      */
     public static Collection<Object[]> loadTestData(final String excelFile, final boolean worksheetAsTest) throws Exception {
-        final Map<String, List<TestCase<?>>> tests = readExcel(excelFile);
+        return loadTestData(excelFile, worksheetAsTest, WorksheetFilter.fromConfig());
+    }
+
+    /**
+     * Load the excel-file and prepare the data (TestCommands) of the worksheets accepted by the given filter.
+     *
+     * @param excelFile       the name of the excel file (to be loaded)
+     * @param worksheetAsTest "group" all the test-commands of a worksheet to one test (true) or run each test-command
+     *                        as single test (false)
+     * @param filter          the filter for the worksheets to read
+     * @return a list of the parsed {@link TestCase}s
+     * @throws Exception in case that something goes wrong
+     */
+    static Collection<Object[]> loadTestData(final String excelFile, final boolean worksheetAsTest,
+                                             final WorksheetFilter filter) throws Exception {
+        final Map<String, List<TestCase<?>>> tests = readExcel(excelFile, filter);
 
         final Collection<Object[]> col = new ArrayList<>();
         if (worksheetAsTest) {
@@ -68,6 +84,47 @@ public class ExcelLoader {
      * @throws Exception in case that something goes wrong
      */
     static Map<String, List<TestCase<?>>> readExcel(final String excelFilePath) throws Exception {
+        return readExcel(excelFilePath, WorksheetFilter.fromConfig());
+    }
+
+    /**
+     * Read the worksheets of the excel-sheet accepted by the given filter. The other worksheets will be skipped before
+     * their rows are read.
+     *
+     * @param excelFilePath the path to the excel-file to read
+     * @param filter        the filter for the worksheets to read
+     * @return a map with the excel worksheet name as key and the list of {@link TestCase}s as value
+     * @throws Exception in case that something goes wrong
+     */
+    static Map<String, List<TestCase<?>>> readExcel(final String excelFilePath, final WorksheetFilter filter)
+            throws Exception {
+        final long start = Metrics.start();
+        final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Type.WORKBOOK_LOAD);
+        try {
+            if (ExcelDataCache.isEnabled()) {
+                return ExcelDataCache.load(excelFilePath, filter, () -> parseExcel(excelFilePath, filter));
+            }
+            return parseExcel(excelFilePath, filter);
+        } finally {
+            Metrics.stop(Phase.LOAD, start);
+            FlightRecorderEvents.commit(event, excelFilePath, null, 0, null);
+        }
+    }
+
+    /**
+     * Parse the excel-file (DOM or streaming, depending on the configuration) without using the cache.
+     *
+     * @param excelFilePath the path to the excel-file to read
+     * @param filter        the filter for the worksheets to read
+     * @return a map with the excel worksheet name as key and the list of {@link TestCase}s as value
+     * @throws Exception in case that something goes wrong
+     */
+    private static Map<String, List<TestCase<?>>> parseExcel(final String excelFilePath, final WorksheetFilter filter)
+            throws Exception {
+        if (JExUnitConfig.getBooleanProperty(JExUnitConfig.ConfigKey.EXCEL_STREAMING)) {
+            return readExcelStreaming(excelFilePath, filter);
+        }
+
         final Map<String, List<TestCase<?>>> tests = new LinkedHashMap<>();
 
         int i = 0;
@@ -75,104 +132,53 @@ public class ExcelLoader {
         String sheet = null;
         try (final OPCPackage pkg = OPCPackage.open(excelFilePath, PackageAccess.READ);) {
             final XSSFWorkbook workbook = new XSSFWorkbook(pkg);
+            // a single evaluator per workbook, so the results of the formulas evaluated are cached (no evaluator is
+            // needed, if the cached results of the formulas are read)
+            final FormulaEvaluator evaluator = JExUnitConfig
+                    .getBooleanProperty(JExUnitConfig.ConfigKey.EXCEL_FORMULA_CACHED_RESULTS) ? null
+                    : workbook.getCreationHelper().createFormulaEvaluator();
             // iterate through the worksheets
             for (final XSSFSheet worksheet : workbook) {
                 sheet = worksheet.getSheetName();
+                if (!filter.accept(sheet)) {
+                    continue;
+                }
+                final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Type.SHEET_PARSE);
                 final List<TestCase<?>> testCases = new ArrayList<>();
-
-                List<String> commandHeaders = null;
+                final WorksheetParser parser = new WorksheetParser(sheet);
 
                 // iterate through the rows
                 for (i = 0; i <= worksheet.getLastRowNum(); i++) {
                     final XSSFRow row = worksheet.getRow(i);
 
                     if (row != null) {
-                        final String cellValue = cellValues2String(workbook, row.getCell(0));
-                        if (JExUnitConfig.getStringProperty(JExUnitConfig.ConfigKey.COMMAND_STATEMENT)
-                                .equalsIgnoreCase(cellValue)) {
-                            commandHeaders = new ArrayList<>();
-
-                            // iterate through the columns
-                            for (int h = 0; h < row.getLastCellNum(); h++) {
-                                commandHeaders.add(row.getCell(h).getStringCellValue());
-                            }
-                        } else {
-                            if (cellValue == null || cellValue.isEmpty()) {
-                                // if the first column is empty, this is a comment line and will be
-                                // ignored
-                                continue;
-                            } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.DISABLED)
-                                    .equalsIgnoreCase(cellValue)) {
-                                final TestCase<ExcelMetadata> testCase = new TestCase<>(new ExcelMetadata());
-
-                                // the first column is always the command
-                                testCase.setTestCommand(cellValue);
-                                testCase.getMetadata().setSheet(worksheet.getSheetName());
-                                testCase.getMetadata().setRow(row.getRowNum() + 1);
-
-                                if (row.getLastCellNum() >= 1) {
-                                    final TestCell testCell = new TestCell();
-                                    testCell.setvalue(cellValues2String(workbook, row.getCell(1)));
-                                    testCell.setColumn(row.getCell(1).getColumnIndex() + 1);
-                                    testCase.getValues().put(
-                                            JExUnitConfig.getDefaultCommandProperty(DefaultCommands.DISABLED),
-                                            testCell);
-                                    testCase.setDisabled(Boolean.parseBoolean(testCell.getValue()));
-                                }
-                                testCases.add(testCase);
-                            } else if (commandHeaders != null || JExUnitConfig
-                                    .getDefaultCommandProperty(DefaultCommands.REPORT).equalsIgnoreCase(cellValue)) {
-                                final TestCase<ExcelMetadata> testCase = new TestCase<>(new ExcelMetadata());
-
-                                // the first column is always the command
-                                testCase.setTestCommand(cellValue);
-                                testCase.getMetadata().setSheet(worksheet.getSheetName());
-                                testCase.getMetadata().setRow(row.getRowNum() + 1);
+                        j = 0;
+                        final Object cellValue = cellValue(evaluator, row.getCell(0));
+                        if (!parser.isRowRelevant(TestCell.asString(cellValue))) {
+                            // comment line (or no command-header defined yet), so the row will be ignored
+                            continue;
+                        }
 
-                                for (j = 1; j < row.getLastCellNum(); j++) {
-                                    final TestCell testCell = new TestCell();
-                                    testCell.setvalue(cellValues2String(workbook, row.getCell(j)));
-                                    testCell.setColumn(row.getCell(j).getColumnIndex() + 1);
-                                    // the "report"-command doesn't need a header-line
-                                    testCase.getValues().put(commandHeaders != null && commandHeaders.size() > j
-                                            ? commandHeaders.get(j) : "param" + j, testCell);
+                        // iterate through the columns
+                        final List<Object> values = new ArrayList<>(row.getLastCellNum());
+                        values.add(cellValue);
+                        for (j = 1; j < row.getLastCellNum(); j++) {
+                            values.add(cellValue(evaluator, row.getCell(j)));
+                        }
 
-                                    // read/parse the "default" commands/parameters
-                                    if (commandHeaders != null && commandHeaders.size() > j) {
-                                        final String header = commandHeaders.get(j);
-                                        if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.BREAKPOINT)
-                                                .equalsIgnoreCase(commandHeaders.get(j))) {
-                                            // each command has the ability to set a breakpoint to
-                                            // debug the test more easily
-                                            testCase.setBreakpointEnabled(Boolean.parseBoolean(testCell.getValue()));
-                                        } else if (JExUnitConfig
-                                                .getDefaultCommandProperty(DefaultCommands.EXCEPTION_EXCPECTED)
-                                                .equalsIgnoreCase(header)) {
-                                            // each command has the ability to expect an exception.
-                                            // you can define this via the field EXCEPTION_EXPECTED.
-                                            testCase.setExceptionExpected(Boolean.parseBoolean(testCell.getValue()));
-                                        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.DISABLED)
-                                                .equalsIgnoreCase(header)) {
-                                            // each command can be disabled
-                                            testCase.setDisabled(Boolean.parseBoolean(testCell.getValue()));
-                                        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.COMMENT)
-                                                .equalsIgnoreCase(header)) {
-                                            // add the comment to the test-case
-                                            testCase.setComment(testCell.getValue());
-                                        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.FAST_FAIL)
-                                                .equalsIgnoreCase(header)) {
-                                            // the command can fast fail the complete test sheet on fail
-                                            testCase.setFastFail(Boolean.parseBoolean(testCell.getValue()));
-                                        }
-                                    }
-                                }
-                                testCases.add(testCase);
-                            }
+                        final TestCase<ExcelMetadata> testCase = parser.parseRow(row.getRowNum() + 1, values);
+                        if (testCase != null) {
+                            testCases.add(testCase);
+                        }
+                        if (parser.isWorksheetDisabled()) {
+                            // the rest of the (disabled) worksheet will not run
+                            break;
                         }
                     }
                 }
 
                 tests.put(worksheet.getSheetName(), testCases);
+                FlightRecorderEvents.commit(event, excelFilePath, sheet, 0, null);
             }
         } catch (final FileNotFoundException e) {
             throw new Exception(String.format("Excel-file '%s' not found!", excelFilePath), e);
@@ -184,32 +190,87 @@ public class ExcelLoader {
     }
 
     /**
-     * Get the value of the excel-cell as String.
+     * Read the excel-sheet event-driven (streaming) row by row via the {@link ExcelStreamReader}. This will generate
+     * the same {@link TestCase}s as {@link #readExcel(String)} without loading the whole workbook into memory.
      *
-     * @param workbook workbook (excel) for evaluating cell formulas
-     * @param cell     cell (excel)
-     * @return the value of the excel-cell as String
+     * @param excelFilePath the path to the excel-file to read
+     * @return a map with the excel worksheet name as key and the list of {@link TestCase}s as value
+     * @throws Exception in case that something goes wrong
+     */
+    static Map<String, List<TestCase<?>>> readExcelStreaming(final String excelFilePath) throws Exception {
+        return readExcelStreaming(excelFilePath, WorksheetFilter.fromConfig());
+    }
+
+    /**
+     * Read the worksheets of the excel-sheet accepted by the given filter event-driven (streaming). The other
+     * worksheets will be skipped without parsing them.
+     *
+     * @param excelFilePath the path to the excel-file to read
+     * @param filter        the filter for the worksheets to read
+     * @return a map with the excel worksheet name as key and the list of {@link TestCase}s as value
+     * @throws Exception in case that something goes wrong
      */
-    static String cellValues2String(final XSSFWorkbook workbook, final XSSFCell cell) {
+    static Map<String, List<TestCase<?>>> readExcelStreaming(final String excelFilePath, final WorksheetFilter filter)
+            throws Exception {
+        final Map<String, List<TestCase<?>>> tests = new LinkedHashMap<>();
+
+        final List<TestCase<?>> testCases = new ArrayList<>();
+        ExcelStreamReader current = null;
+        String sheet = null;
+        try (final ExcelStreamReader reader = new ExcelStreamReader(excelFilePath)) {
+            current = reader;
+            while (reader.hasNextWorksheet()) {
+                sheet = reader.getNextWorksheetName();
+                if (!filter.accept(sheet)) {
+                    reader.skipNextWorksheet();
+                    continue;
+                }
+                testCases.clear();
+                reader.readNextWorksheet(testCases::add);
+                tests.put(sheet, new ArrayList<>(testCases));
+            }
+        } catch (final FileNotFoundException e) {
+            throw new Exception(String.format("Excel-file '%s' not found!", excelFilePath), e);
+        } catch (final Exception e) {
+            if (current == null) {
+                throw new Exception(String.format("Error while reading the excel-file '%s'!", excelFilePath), e);
+            }
+            throw new Exception(String.format(
+                    "Error while reading the excel-file '%s'! - worksheet: %s row: %s column: %s", excelFilePath,
+                    sheet, current.getRow(), getColumn(current.getColumn() + 1)), e);
+        }
+        return tests;
+    }
+
+    /**
+     * Get the typed value of the excel-cell. Numbers will be returned as <code>Double</code>, date formatted numbers as
+     * <code>Date</code>, booleans as <code>Boolean</code> and everything else as <code>String</code> (see
+     * {@link TestCell#getTypedValue()}).
+     *
+     * @param evaluator evaluator for the cell formulas (of the workbook) or null, if the cached results of the formulas
+     *                  should be read
+     * @param cell      cell (excel)
+     * @return the typed value of the excel-cell
+     */
+    static Object cellValue(final FormulaEvaluator evaluator, final XSSFCell cell) {
         if (cell == null) {
             return null;
         }
         switch (cell.getCellType()) {
             case XSSFCell.CELL_TYPE_NUMERIC:
                 if (HSSFDateUtil.isCellDateFormatted(cell)) {
-                    return new SimpleDateFormat(JExUnitConfig.getStringProperty(JExUnitConfig.ConfigKey.DATE_PATTERN))
-                            .format(cell.getDateCellValue());
+                    return cell.getDateCellValue();
                 } else {
-                    return String.valueOf(cell.getNumericCellValue());
+                    return cell.getNumericCellValue();
                 }
             case XSSFCell.CELL_TYPE_STRING:
                 return cell.getStringCellValue();
             case XSSFCell.CELL_TYPE_FORMULA:
-                return evaluateCellFormula(workbook, cell);
+                return evaluator != null ? evaluateCellFormula(evaluator, cell) : cachedFormulaResult(cell);
             case XSSFCell.CELL_TYPE_BLANK:
                 return cell.getStringCellValue();
             case XSSFCell.CELL_TYPE_BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
+                return cell.getBooleanCellValue();
             case XSSFCell.CELL_TYPE_ERROR:
                 return String.valueOf(cell.getErrorCellValue());
         }
@@ -219,19 +280,18 @@ public class ExcelLoader {
     /**
      * Evaluate the formula of the given cell.
      *
-     * @param workbook workbook (excel) for evaluating the cell formula
-     * @param cell     cell (excel)
-     * @return the value of the excel-call as string (the formula will be executed)
+     * @param evaluator evaluator for the cell formulas (of the workbook)
+     * @param cell      cell (excel)
+     * @return the typed value of the excel-call (the formula will be executed)
      */
-    static String evaluateCellFormula(final XSSFWorkbook workbook, final XSSFCell cell) {
-        final FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+    static Object evaluateCellFormula(final FormulaEvaluator evaluator, final XSSFCell cell) {
         final CellValue cellValue = evaluator.evaluate(cell);
 
         switch (cellValue.getCellType()) {
             case Cell.CELL_TYPE_BOOLEAN:
-                return String.valueOf(cellValue.getBooleanValue());
+                return cellValue.getBooleanValue();
             case Cell.CELL_TYPE_NUMERIC:
-                return String.valueOf(cellValue.getNumberValue());
+                return cellValue.getNumberValue();
             case Cell.CELL_TYPE_STRING:
                 return cellValue.getStringValue();
             default:
@@ -239,6 +299,29 @@ public class ExcelLoader {
         }
     }
 
+    /**
+     * Read the (cached) result of the formula of the given cell stored in the excel-file without evaluating the
+     * formula. This will return the same values as the {@link ExcelStreamReader}.
+     *
+     * @param cell cell (excel)
+     * @return the typed value of the cached result or null, if there is no cached result
+     */
+    static Object cachedFormulaResult(final XSSFCell cell) {
+        if (!cell.getCTCell().isSetV()) {
+            return null;
+        }
+        switch (cell.getCachedFormulaResultType()) {
+            case Cell.CELL_TYPE_BOOLEAN:
+                return cell.getBooleanCellValue();
+            case Cell.CELL_TYPE_NUMERIC:
+                return cell.getNumericCellValue();
+            case Cell.CELL_TYPE_STRING:
+                return cell.getStringCellValue();
+            default:
+                return null;
+        }
+    }
+
     /**
      * Get the character(s) of the column like it is in excel (A, B, C, ...)
      *
@@ -0,0 +1,431 @@
+package com.jexunit.core.dataprovider;
+
+import com.jexunit.core.metrics.FlightRecorderEvents;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.SAXParserFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Event-driven (SAX based) reader for excel-files (xlsx). In contrast to the {@link ExcelLoader} reading the whole
+ * workbook into memory (DOM), this reader will parse the worksheets row by row. So the memory needed for reading the
+ * excel-file is bounded by the current row and not by the size of the workbook.
+ * <p>
+ * The worksheets will be read one after another. Each parsed {@link TestCase} will be passed to the given consumer.
+ * </p>
+ * <p>
+ * <u>Attention:</u> formulas cannot be evaluated while streaming, so the (cached) results of the formulas stored in
+ * the excel-file will be read (like the {@link ExcelLoader} does, if
+ * {@link com.jexunit.core.JExUnitConfig.ConfigKey#EXCEL_FORMULA_CACHED_RESULTS} is set).
+ * </p>
+ *
+ * @author fabian
+ */
+public class ExcelStreamReader implements Closeable {
+
+    private final String excelFilePath;
+    private final OPCPackage pkg;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final StylesTable styles;
+    private final XSSFReader.SheetIterator sheets;
+    private final XMLReader xmlReader;
+    private final boolean date1904;
+
+    private final Map<Integer, Boolean> dateStyles = new HashMap<>();
+
+    private InputStream nextSheet;
+    private String nextSheetName;
+    /**
+     * the handler of the worksheet read last (for the position of an error)
+     */
+    private SheetHandler handler;
+
+    /**
+     * Open the excel-file for reading.
+     *
+     * @param excelFilePath the path to the excel-file to read
+     * @throws Exception in case that something goes wrong
+     */
+    public ExcelStreamReader(final String excelFilePath) throws Exception {
+        this.excelFilePath = excelFilePath;
+        pkg = OPCPackage.open(excelFilePath, PackageAccess.READ);
+        try {
+            final XSSFReader reader = new XSSFReader(pkg);
+            sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            styles = reader.getStylesTable();
+            sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+
+            final SAXParserFactory factory = SAXParserFactory.newInstance();
+            factory.setNamespaceAware(true);
+            xmlReader = factory.newSAXParser().getXMLReader();
+
+            date1904 = readDate1904(reader);
+        } catch (final Exception e) {
+            pkg.revert();
+            throw e;
+        }
+    }
+
+    /**
+     * Read only the names of the worksheets (out of the workbook-part) without reading the shared strings, the styles
+     * or any of the worksheets.
+     *
+     * @param excelFilePath the path to the excel-file to read
+     * @return the names of the worksheets in the order of the workbook
+     * @throws Exception in case that something goes wrong
+     */
+    public static List<String> readWorksheetNames(final String excelFilePath) throws Exception {
+        final List<String> names = new ArrayList<>();
+        final OPCPackage pkg = OPCPackage.open(excelFilePath, PackageAccess.READ);
+        try {
+            final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            while (sheets.hasNext()) {
+                // the stream of the worksheet is only opened, not read
+                try (final InputStream sheet = sheets.next()) {
+                    names.add(sheets.getSheetName());
+                }
+            }
+        } finally {
+            pkg.revert();
+        }
+        return names;
+    }
+
+    /**
+     * Check, if there are more worksheets to read.
+     *
+     * @return true, if there is another worksheet to read, else false
+     */
+    public boolean hasNextWorksheet() {
+        return nextSheet != null || sheets.hasNext();
+    }
+
+    /**
+     * Get the name of the next worksheet without reading it.
+     *
+     * @return the name of the next worksheet
+     */
+    public String getNextWorksheetName() {
+        fetchNextWorksheet();
+        return nextSheetName;
+    }
+
+    /**
+     * Read the next worksheet. Each {@link TestCase} found will be passed to the given consumer as soon as its row is
+     * parsed.
+     *
+     * @param consumer the consumer for the parsed test-cases
+     * @return the name of the worksheet read
+     * @throws Exception in case that something goes wrong
+     */
+    public String readNextWorksheet(final Consumer<TestCase<ExcelMetadata>> consumer) throws Exception {
+        fetchNextWorksheet();
+        final String sheetName = nextSheetName;
+        final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Type.SHEET_PARSE);
+        try (final InputStream sheet = nextSheet) {
+            nextSheet = null;
+            nextSheetName = null;
+            handler = new SheetHandler(new WorksheetParser(sheetName), consumer);
+            xmlReader.setContentHandler(handler);
+            try {
+                xmlReader.parse(new InputSource(sheet));
+            } catch (final WorksheetDisabledException e) {
+                // the rest of the (disabled) worksheet will not run, so it doesn't have to be read
+            }
+            return sheetName;
+        } finally {
+            FlightRecorderEvents.commit(event, excelFilePath, sheetName, 0, null);
+        }
+    }
+
+    /**
+     * Get the row read last (as shown in excel, so starting with 1), for example to report the position of an error.
+     *
+     * @return the row read last or 0, if no row is read yet
+     */
+    public int getRow() {
+        return handler != null ? handler.row : 0;
+    }
+
+    /**
+     * Get the (zero-based) column index of the cell read last, for example to report the position of an error.
+     *
+     * @return the column index of the cell read last
+     */
+    public int getColumn() {
+        return handler != null ? handler.column : 0;
+    }
+
+    /**
+     * Skip the next worksheet without parsing it.
+     *
+     * @throws IOException in case that something goes wrong
+     */
+    public void skipNextWorksheet() throws IOException {
+        fetchNextWorksheet();
+        try (final InputStream sheet = nextSheet) {
+            nextSheet = null;
+            nextSheetName = null;
+        }
+    }
+
+    /**
+     * Open the stream of the next worksheet (if not already done). This will not parse the worksheet.
+     */
+    private void fetchNextWorksheet() {
+        if (nextSheet == null) {
+            nextSheet = sheets.next();
+            nextSheetName = sheets.getSheetName();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (nextSheet != null) {
+            nextSheet.close();
+        }
+        // the package is opened read-only, so there is nothing to save
+        pkg.revert();
+    }
+
+    /**
+     * Read the date system of the workbook out of the workbook-part (<i>workbookPr date1904</i>).
+     *
+     * @param reader the XSSFReader to get the workbook-part from
+     * @return true, if the workbook uses the 1904 date system, else false
+     * @throws Exception in case that something goes wrong
+     */
+    private boolean readDate1904(final XSSFReader reader) throws Exception {
+        final boolean[] date1904 = new boolean[1];
+        xmlReader.setContentHandler(new DefaultHandler() {
+            @Override
+            public void startElement(final String uri, final String localName, final String qName,
+                                     final Attributes attributes) {
+                if ("workbookPr".equals(localName)) {
+                    final String value = attributes.getValue("date1904");
+                    date1904[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                }
+            }
+        });
+        try (final InputStream workbook = reader.getWorkbookData()) {
+            xmlReader.parse(new InputSource(workbook));
+        }
+        return date1904[0];
+    }
+
+    /**
+     * Check, if the cell style with the given index represents a date format.
+     *
+     * @param styleIndex the index of the cell style
+     * @return true, if the style is a date format, else false
+     */
+    private boolean isDateStyle(final int styleIndex) {
+        Boolean dateStyle = dateStyles.get(styleIndex);
+        if (dateStyle == null) {
+            final XSSFCellStyle style = styles.getStyleAt(styleIndex);
+            dateStyle = style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+            dateStyles.put(styleIndex, dateStyle);
+        }
+        return dateStyle;
+    }
+
+    /**
+     * Get the typed value of the excel-cell. This is the streaming counterpart of
+     * {@link ExcelLoader#cellValue(org.apache.poi.ss.usermodel.FormulaEvaluator,
+     * org.apache.poi.xssf.usermodel.XSSFCell)} (reading the cached results of the formulas).
+     *
+     * @param type       the type of the cell (attribute <i>t</i>)
+     * @param styleIndex the index of the cell style (attribute <i>s</i>)
+     * @param formula    true, if the cell contains a formula
+     * @param value      the raw value of the cell
+     * @return the typed value of the excel-cell
+     */
+    private Object cellValue(final String type, final int styleIndex, final boolean formula,
+                                    final String value) {
+        if (value == null) {
+            // blank cell or formula without cached result
+            return formula ? null : "";
+        }
+        if (type == null || "n".equals(type)) {
+            final double d = Double.parseDouble(value);
+            if (!formula && DateUtil.isValidExcelDate(d) && isDateStyle(styleIndex)) {
+                return DateUtil.getJavaDate(d, date1904);
+            }
+            return d;
+        }
+        switch (type) {
+            case "s":
+                return sharedStrings.getEntryAt(Integer.parseInt(value));
+            case "b":
+                return "1".equals(value) || "true".equalsIgnoreCase(value);
+            case "e":
+                return formula ? null : String.valueOf(FormulaError.forString(value).getCode());
+            default:
+                // inline strings, string results of formulas, ...
+                return value;
+        }
+    }
+
+    /**
+     * SAX-Handler for the worksheet-part. This will collect the values of the current row and pass the row to the
+     * {@link WorksheetParser} at the end of the row.
+     */
+    private class SheetHandler extends DefaultHandler {
+
+        private final WorksheetParser parser;
+        private final Consumer<TestCase<ExcelMetadata>> consumer;
+
+        private final List<Object> rowValues = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+
+        private int row;
+        private int nextColumn;
+        /**
+         * whether the current row has to be read (decided once per row, with the first cell)
+         */
+        private boolean rowRelevant;
+        private boolean rowRelevanceChecked;
+
+        private int column;
+        private String type;
+        private int styleIndex;
+        private boolean formula;
+        private String value;
+
+        private boolean inlineString;
+        private boolean collectText;
+
+        SheetHandler(final WorksheetParser parser, final Consumer<TestCase<ExcelMetadata>> consumer) {
+            this.parser = parser;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName,
+                                 final Attributes attributes) {
+            switch (localName) {
+                case "row":
+                    rowValues.clear();
+                    final String r = attributes.getValue("r");
+                    row = r != null ? Integer.parseInt(r) : row + 1;
+                    nextColumn = 0;
+                    rowRelevanceChecked = false;
+                    break;
+                case "c":
+                    final String ref = attributes.getValue("r");
+                    column = ref != null ? new CellReference(ref).getCol() : nextColumn;
+                    nextColumn = column + 1;
+                    type = attributes.getValue("t");
+                    final String s = attributes.getValue("s");
+                    styleIndex = s != null ? Integer.parseInt(s) : 0;
+                    formula = false;
+                    value = null;
+                    break;
+                case "f":
+                    formula = true;
+                    break;
+                case "v":
+                    text.setLength(0);
+                    collectText = true;
+                    break;
+                case "is":
+                    text.setLength(0);
+                    inlineString = true;
+                    break;
+                case "t":
+                    collectText = inlineString;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if (collectText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName)
+                throws WorksheetDisabledException {
+            switch (localName) {
+                case "v":
+                    value = text.toString();
+                    collectText = false;
+                    break;
+                case "t":
+                    collectText = false;
+                    break;
+                case "is":
+                    value = text.toString();
+                    inlineString = false;
+                    break;
+                case "c":
+                    while (rowValues.size() <= column) {
+                        rowValues.add(null);
+                    }
+                    if (column == 0) {
+                        rowValues.set(column, cellValue(type, styleIndex, formula, value));
+                    }
+                    if (!rowRelevanceChecked) {
+                        // the cells are ordered by column, so the first cell of the row decides (a missing first cell
+                        // is a comment line)
+                        rowRelevant = parser.isRowRelevant(TestCell.asString(rowValues.get(0)));
+                        rowRelevanceChecked = true;
+                    }
+                    if (column > 0 && rowRelevant) {
+                        // only convert the values of the rows to read
+                        rowValues.set(column, cellValue(type, styleIndex, formula, value));
+                    }
+                    break;
+                case "row":
+                    if (!rowValues.isEmpty()) {
+                        final TestCase<ExcelMetadata> testCase = parser.parseRow(row, rowValues);
+                        if (testCase != null) {
+                            consumer.accept(testCase);
+                        }
+                        if (parser.isWorksheetDisabled()) {
+                            throw new WorksheetDisabledException();
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Thrown by the {@link SheetHandler} to stop parsing a disabled worksheet.
+     */
+    private static class WorksheetDisabledException extends SAXException {
+
+        private static final long serialVersionUID = 1L;
+
+    }
+
+}
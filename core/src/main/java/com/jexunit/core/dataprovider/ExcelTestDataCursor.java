@@ -0,0 +1,91 @@
+package com.jexunit.core.dataprovider;
+
+import com.jexunit.core.metrics.Metrics;
+import com.jexunit.core.metrics.Phase;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.spi.data.TestDataCursor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TestDataCursor implementation of the ExcelDataProvider. Each worksheet of the excel-file is a test group and will be
+ * read via the {@link ExcelStreamReader} as soon as it is requested. Worksheets not accepted by the
+ * {@link WorksheetFilter} will be skipped without parsing them.
+ *
+ * @author fabian
+ */
+class ExcelTestDataCursor implements TestDataCursor {
+
+    private final String excelFilePath;
+    private final ExcelStreamReader reader;
+    private final WorksheetFilter filter;
+
+    ExcelTestDataCursor(final String excelFilePath) throws Exception {
+        this(excelFilePath, WorksheetFilter.fromConfig());
+    }
+
+    ExcelTestDataCursor(final String excelFilePath, final WorksheetFilter filter) throws Exception {
+        this.excelFilePath = excelFilePath;
+        this.reader = new ExcelStreamReader(excelFilePath);
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            skipRejectedWorksheets();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return reader.hasNextWorksheet();
+    }
+
+    @Override
+    public String getNextTestGroup() throws IOException {
+        skipRejectedWorksheets();
+        return reader.getNextWorksheetName();
+    }
+
+    @Override
+    public List<TestCase<?>> next() throws Exception {
+        skipRejectedWorksheets();
+        final String sheet = reader.getNextWorksheetName();
+        final List<TestCase<?>> testCases = new ArrayList<>();
+        final long start = Metrics.start();
+        try {
+            reader.readNextWorksheet(testCases::add);
+        } catch (final Exception e) {
+            throw new Exception(String.format("Error while reading the excel-file '%s'! - worksheet: %s",
+                    excelFilePath, sheet), e);
+        } finally {
+            Metrics.stop(Phase.LOAD, start);
+        }
+        return testCases;
+    }
+
+    @Override
+    public void skip() throws IOException {
+        skipRejectedWorksheets();
+        reader.skipNextWorksheet();
+    }
+
+    /**
+     * Skip the worksheets not accepted by the filter (without parsing them).
+     *
+     * @throws IOException in case that something goes wrong
+     */
+    private void skipRejectedWorksheets() throws IOException {
+        while (reader.hasNextWorksheet() && !filter.accept(reader.getNextWorksheetName())) {
+            reader.skipNextWorksheet();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.jexunit.core.dataprovider;
+
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.spi.data.TestDataCursor;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * TestDataCursor implementation of the ExcelDataProvider for the lazy discovery. The names of the worksheets (the test
+ * groups) are read out of the workbook-part only. The worksheets themselves will be read (all at once, like without
+ * lazy discovery) as soon as the first test group is requested.
+ *
+ * @author fabian
+ */
+class LazyExcelTestDataCursor implements TestDataCursor {
+
+    private final List<String> worksheets;
+    private final WorksheetLoader loader;
+    private int position;
+
+    /**
+     * Create the cursor for the given worksheets.
+     *
+     * @param worksheets the names of the worksheets (in the order of the workbook)
+     * @param loader     loader for the test data of a worksheet (by its name)
+     */
+    LazyExcelTestDataCursor(final List<String> worksheets, final WorksheetLoader loader) {
+        this.worksheets = worksheets;
+        this.loader = loader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < worksheets.size();
+    }
+
+    @Override
+    public String getNextTestGroup() {
+        return worksheets.get(position);
+    }
+
+    @Override
+    public List<TestCase<?>> next() throws Exception {
+        return loader.load(worksheets.get(position++));
+    }
+
+    @Override
+    public void skip() throws IOException {
+        position++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        position = worksheets.size();
+    }
+
+    /**
+     * Loader for the test data of a single worksheet.
+     */
+    @FunctionalInterface
+    interface WorksheetLoader {
+
+        /**
+         * Load the test data of the given worksheet.
+         *
+         * @param worksheet the name of the worksheet
+         * @return the test-cases of the worksheet
+         * @throws Exception in case that something goes wrong
+         */
+        List<TestCase<?>> load(final String worksheet) throws Exception;
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.jexunit.core.dataprovider;
+
+import com.jexunit.core.JExUnitConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Filter for the worksheets of the excel-files. The filter is applied before the rows of a worksheet are read, so the
+ * worksheets not selected don't have to be parsed. The include and exclude patterns are regular expressions matching
+ * the whole name of the worksheet; the exclude patterns take precedence.
+ *
+ * @author fabian
+ */
+final class WorksheetFilter {
+
+    private final List<Pattern> includes;
+    private final List<Pattern> excludes;
+
+    private WorksheetFilter(final String[] includes, final String[] excludes) {
+        this(compile(includes), compile(excludes));
+    }
+
+    private WorksheetFilter(final List<Pattern> includes, final List<Pattern> excludes) {
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    /**
+     * Get the filter out of the configuration only.
+     *
+     * @return the filter for the worksheets
+     */
+    static WorksheetFilter fromConfig() {
+        return of(null);
+    }
+
+    /**
+     * Get the filter for the given annotation. The patterns of the annotation will be overridden by the configuration
+     * (if set).
+     *
+     * @param annotation the annotation defining the excel-file(s), may be <code>null</code>
+     * @return the filter for the worksheets
+     */
+    static WorksheetFilter of(final ExcelFile annotation) {
+        String[] includes = JExUnitConfig.getStringArrayProperty(JExUnitConfig.ConfigKey.EXCEL_SHEETS_INCLUDE);
+        if (isEmpty(includes) && annotation != null) {
+            includes = annotation.includeSheets();
+        }
+        String[] excludes = JExUnitConfig.getStringArrayProperty(JExUnitConfig.ConfigKey.EXCEL_SHEETS_EXCLUDE);
+        if (isEmpty(excludes) && annotation != null) {
+            excludes = annotation.excludeSheets();
+        }
+        return new WorksheetFilter(includes, excludes);
+    }
+
+    /**
+     * Check, if the worksheet with the given name has to be read.
+     *
+     * @param worksheet the name of the worksheet
+     * @return true, if the worksheet has to be read, else false
+     */
+    boolean accept(final String worksheet) {
+        for (final Pattern exclude : excludes) {
+            if (exclude.matcher(worksheet).matches()) {
+                return false;
+            }
+        }
+        if (includes.isEmpty()) {
+            return true;
+        }
+        for (final Pattern include : includes) {
+            if (include.matcher(worksheet).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get a filter accepting only the given worksheet (if it is accepted by this filter).
+     *
+     * @param worksheet the name of the worksheet
+     * @return the filter for the single worksheet
+     */
+    WorksheetFilter only(final String worksheet) {
+        if (!accept(worksheet)) {
+            return new WorksheetFilter(new ArrayList<>(), compile(new String[] { ".*" }));
+        }
+        return new WorksheetFilter(compile(new String[] { Pattern.quote(worksheet) }), excludes);
+    }
+
+    /**
+     * Get a key representing the filter (for example to distinguish the cached test data).
+     *
+     * @return the key of the filter (an empty string, if all the worksheets are accepted)
+     */
+    String getKey() {
+        if (includes.isEmpty() && excludes.isEmpty()) {
+            return "";
+        }
+        return "include=" + includes + ";exclude=" + excludes;
+    }
+
+    private static List<Pattern> compile(final String[] patterns) {
+        final List<Pattern> compiled = new ArrayList<>();
+        if (patterns != null) {
+            for (final String pattern : patterns) {
+                if (pattern != null && !pattern.trim().isEmpty()) {
+                    compiled.add(Pattern.compile(pattern.trim()));
+                }
+            }
+        }
+        return compiled;
+    }
+
+    private static boolean isEmpty(final String[] patterns) {
+        return compile(patterns).isEmpty();
+    }
+
+}
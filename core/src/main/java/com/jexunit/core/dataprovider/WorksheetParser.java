@@ -0,0 +1,290 @@
+package com.jexunit.core.dataprovider;
+
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.commands.DefaultCommands;
+import com.jexunit.core.model.HeaderSchema;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parser for the rows of a single worksheet. The rows will be passed in (row by row) by the excel reader implementation
+ * (DOM or streaming) as list of the typed cell values (strings, numbers, booleans and dates, see
+ * {@link TestCell#getTypedValue()}). So the interpretation of the rows (command-headers, default commands, comments,
+ * ...) will be the same for all the excel reader implementations.
+ *
+ * @author fabian
+ */
+class WorksheetParser {
+
+    private final String sheet;
+    /**
+     * the keywords (configured once per worksheet) deciding, which rows have to be read
+     */
+    private final String commandStatement;
+    private final String disabledCommand;
+    private final String reportCommand;
+
+    private List<String> commandHeaders;
+    /**
+     * the schemas (keys of the values) of the test-cases under the current command-header, per number of columns
+     */
+    private final Map<Integer, HeaderSchema> schemas = new HashMap<>();
+
+    private boolean testCaseParsed;
+    private boolean worksheetDisabled;
+
+    /**
+     * Create a new parser for the worksheet with the given name.
+     *
+     * @param sheet the name of the worksheet
+     */
+    WorksheetParser(final String sheet) {
+        this.sheet = sheet;
+        commandStatement = JExUnitConfig.getStringProperty(JExUnitConfig.ConfigKey.COMMAND_STATEMENT);
+        disabledCommand = JExUnitConfig.getDefaultCommandProperty(DefaultCommands.DISABLED);
+        reportCommand = JExUnitConfig.getDefaultCommandProperty(DefaultCommands.REPORT);
+    }
+
+    /**
+     * Check, if the row starting with the given value (the value of the first column) has to be read. Comment lines
+     * and rows without a preceding command-header will be ignored, so the reader doesn't have to convert the other
+     * cells of these rows. The readers check this once per row (with the first cell).
+     *
+     * @param firstCellValue the value of the first cell of the row
+     * @return true, if the row has to be read, else false
+     */
+    boolean isRowRelevant(final String firstCellValue) {
+        if (firstCellValue == null || firstCellValue.isEmpty()) {
+            // if the first column is empty, this is a comment line and will be ignored
+            return false;
+        }
+        return commandHeaders != null || isCommandStatement(firstCellValue)
+                || disabledCommand.equalsIgnoreCase(firstCellValue) || reportCommand.equalsIgnoreCase(firstCellValue);
+    }
+
+    /**
+     * Parse the given row. If the row is a command-header, the headers will be stored for the following rows and
+     * <code>null</code> will be returned.
+     *
+     * @param row    the row-number (as shown in excel, so starting with 1)
+     * @param values the (typed) values of the cells of the row (see {@link TestCell#getTypedValue()}). The index of
+     *               the list is the (zero-based) column index, missing cells are represented by <code>null</code>
+     * @return the TestCase for the given row or <code>null</code>, if the row doesn't represent a TestCase
+     */
+    TestCase<ExcelMetadata> parseRow(final int row, final List<?> values) {
+        final String cellValue = values.isEmpty() ? null : TestCell.asString(values.get(0));
+        if (isCommandStatement(cellValue)) {
+            commandHeaders = new ArrayList<>(values.size());
+            for (final Object header : values) {
+                commandHeaders.add(TestCell.asString(header));
+            }
+            schemas.clear();
+            return null;
+        }
+        if (!isRowRelevant(cellValue)) {
+            return null;
+        }
+
+        final boolean disabled = disabledCommand.equalsIgnoreCase(cellValue);
+        final HeaderSchema schema = disabled ? HeaderSchema.of(Collections.singletonList(disabledCommand))
+                : getSchema(values.size());
+        final TestCase<ExcelMetadata> testCase = new TestCase<>(new ExcelMetadata(), schema);
+
+        // the first column is always the command
+        testCase.setTestCommand(cellValue);
+        testCase.getMetadata().setSheet(sheet);
+        testCase.getMetadata().setRow(row);
+
+        if (disabled) {
+            if (values.size() > 1) {
+                final TestCell testCell = new TestCell(2, values.get(1));
+                testCase.getValues().put(disabledCommand, testCell);
+                testCase.setDisabled(Boolean.parseBoolean(testCell.getValue()));
+            }
+            worksheetDisabled = !testCaseParsed && testCase.isDisabled();
+            testCaseParsed = true;
+            return testCase;
+        }
+        testCaseParsed = true;
+
+        for (int j = 1; j < values.size(); j++) {
+            final TestCell testCell = new TestCell(j + 1, values.get(j));
+            // the "report"-command doesn't need a header-line
+            testCase.getValues().put(getKey(j), testCell);
+
+            // read/parse the "default" commands/parameters
+            if (commandHeaders != null && commandHeaders.size() > j) {
+                parseDefaultCommand(testCase, commandHeaders.get(j), testCell);
+            }
+        }
+        return testCase;
+    }
+
+    /**
+     * Check, if the worksheet is disabled, i.e. the first test-case of the worksheet is the "disabled"-command set to
+     * <code>true</code>. The rest of the worksheet will never run, so the reader can stop reading the worksheet.
+     *
+     * @return true, if the worksheet is disabled, else false
+     */
+    boolean isWorksheetDisabled() {
+        return worksheetDisabled;
+    }
+
+    /**
+     * Get the key for the value in the given column.
+     *
+     * @param column the (zero-based) column index
+     * @return the header of the column or <i>param[column]</i> if there is no header (for example for the "report"
+     * command)
+     */
+    private String getKey(final int column) {
+        return commandHeaders != null && commandHeaders.size() > column ? commandHeaders.get(column) : "param" + column;
+    }
+
+    /**
+     * Get the schema for the rows with the given number of columns under the current command-header.
+     *
+     * @param columns the number of columns of the row (incl. the command)
+     * @return the (shared) schema for the keys of the values
+     */
+    private HeaderSchema getSchema(final int columns) {
+        HeaderSchema schema = schemas.get(columns);
+        if (schema == null) {
+            final List<String> keys = new ArrayList<>(columns);
+            for (int j = 1; j < columns; j++) {
+                keys.add(getKey(j));
+            }
+            schema = HeaderSchema.of(keys);
+            schemas.put(columns, schema);
+        }
+        return schema;
+    }
+
+    /**
+     * Read/parse the "default" commands/parameters of the given test-case.
+     *
+     * @param testCase the test-case to set the default command values to
+     * @param header   the header of the current column
+     * @param testCell the current cell
+     */
+    private void parseDefaultCommand(final TestCase<ExcelMetadata> testCase, final String header,
+                                     final TestCell testCell) {
+        if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.BREAKPOINT).equalsIgnoreCase(header)) {
+            // each command has the ability to set a breakpoint to debug the test more easily
+            testCase.setBreakpointEnabled(Boolean.parseBoolean(testCell.getValue()));
+        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.EXCEPTION_EXCPECTED)
+                .equalsIgnoreCase(header)) {
+            // each command has the ability to expect an exception. you can define this via the field
+            // EXCEPTION_EXPECTED.
+            testCase.setExceptionExpected(Boolean.parseBoolean(testCell.getValue()));
+        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.DISABLED).equalsIgnoreCase(header)) {
+            // each command can be disabled
+            testCase.setDisabled(Boolean.parseBoolean(testCell.getValue()));
+        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.COMMENT).equalsIgnoreCase(header)) {
+            // add the comment to the test-case
+            testCase.setComment(testCell.getValue());
+        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.FAST_FAIL).equalsIgnoreCase(header)) {
+            // the command can fast fail the complete test sheet on fail
+            testCase.setFastFail(Boolean.parseBoolean(testCell.getValue()));
+        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.MAX_MILLIS).equalsIgnoreCase(header)) {
+            // the command can define a latency budget
+            final Double value = parseNumber(testCase, header, testCell);
+            testCase.setMaxMillis(value != null ? value.longValue() : null);
+        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.REPEAT).equalsIgnoreCase(header)) {
+            // the command can run repeatedly as micro-benchmark
+            testCase.setRepeat(parseCount(testCase, header, testCell));
+        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.WARMUP).equalsIgnoreCase(header)) {
+            testCase.setWarmup(parseCount(testCase, header, testCell));
+        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.PERCENTILE).equalsIgnoreCase(header)) {
+            testCase.setPercentile(parsePercentile(testCase, header, testCell));
+        } else if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.BARRIER).equalsIgnoreCase(header)) {
+            // the command can wait for the asynchronous commands before
+            testCase.setBarrier(Boolean.parseBoolean(testCell.getValue()));
+        }
+    }
+
+    /**
+     * Parse the value of the given cell as number (numbers are read as double out of the excel-file). If the value is
+     * no number, the error is set to the test-case, so only this test-case fails (not the whole workbook).
+     *
+     * @param testCase the test-case the cell belongs to
+     * @param header   the header of the column
+     * @param testCell the cell to parse
+     * @return the number or <code>null</code>, if the cell is empty or invalid
+     */
+    private Double parseNumber(final TestCase<ExcelMetadata> testCase, final String header,
+                               final TestCell testCell) {
+        final String value = testCell.getValue();
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value.trim());
+        } catch (final NumberFormatException e) {
+            setError(testCase, header, "no number", value);
+            return null;
+        }
+    }
+
+    /**
+     * Parse the value of the given cell as count (like the number of repetitions), i.e. a number not less than 0.
+     *
+     * @param testCase the test-case the cell belongs to
+     * @param header   the header of the column
+     * @param testCell the cell to parse
+     * @return the count or <code>null</code>, if the cell is empty or invalid
+     */
+    private Integer parseCount(final TestCase<ExcelMetadata> testCase, final String header,
+                               final TestCell testCell) {
+        final Double value = parseNumber(testCase, header, testCell);
+        if (value != null && value < 0) {
+            setError(testCase, header, "negative number", testCell.getValue());
+            return null;
+        }
+        return value != null ? value.intValue() : null;
+    }
+
+    /**
+     * Parse the value of the given cell as percentile, i.e. a number within 0 - 100.
+     *
+     * @param testCase the test-case the cell belongs to
+     * @param header   the header of the column
+     * @param testCell the cell to parse
+     * @return the percentile or <code>null</code>, if the cell is empty or invalid
+     */
+    private Double parsePercentile(final TestCase<ExcelMetadata> testCase, final String header,
+                                   final TestCell testCell) {
+        final Double value = parseNumber(testCase, header, testCell);
+        if (value != null && (value < 0 || value > 100)) {
+            setError(testCase, header, "not within 0 - 100", testCell.getValue());
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * Set the error for the invalid value of the given column to the test-case (if there is no error yet).
+     *
+     * @param testCase the test-case to set the error to
+     * @param header   the header of the column
+     * @param reason   the reason, why the value is invalid
+     * @param value    the invalid value
+     */
+    private void setError(final TestCase<ExcelMetadata> testCase, final String header, final String reason,
+                          final String value) {
+        if (testCase.getError() == null) {
+            testCase.setError(String.format("Invalid value for %s (%s): %s", header, reason, value));
+        }
+    }
+
+    private boolean isCommandStatement(final String cellValue) {
+        return commandStatement.equalsIgnoreCase(cellValue);
+    }
+
+}
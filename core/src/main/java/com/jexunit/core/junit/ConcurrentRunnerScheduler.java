@@ -0,0 +1,66 @@
+package com.jexunit.core.junit;
+
+import com.jexunit.core.context.TestContext;
+import com.jexunit.core.context.TestContextManager;
+import org.junit.runners.model.RunnerScheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RunnerScheduler running the child runners (the tests) concurrently on a fixed number of threads. Each child gets its
+ * own TestContext, initialized with the entries of the context of the scheduling thread (for example the
+ * data provider).
+ *
+ * @author fabian
+ */
+class ConcurrentRunnerScheduler implements RunnerScheduler {
+
+    private final ExecutorService executor;
+    private final List<Future<?>> children = new ArrayList<>();
+
+    ConcurrentRunnerScheduler(final String name, final int threads) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, r -> {
+            final Thread thread = new Thread(r, String.format("jexunit-%s-%s", name, threadNumber.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void schedule(final Runnable childStatement) {
+        final TestContext parentContext = TestContextManager.getTestContext();
+        children.add(executor.submit(() -> {
+            TestContextManager.setTestContext(new TestContext(parentContext));
+            try {
+                childStatement.run();
+            } finally {
+                TestContextManager.removeTestContext();
+            }
+        }));
+    }
+
+    @Override
+    public void finished() {
+        try {
+            for (final Future<?> child : children) {
+                child.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            children.forEach(child -> child.cancel(true));
+        } catch (final ExecutionException e) {
+            // failures of the tests are reported to the notifier, so this is an unexpected error
+            throw new IllegalStateException("Error running the tests concurrently.", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.jexunit.core.junit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to run the tests (for example the worksheets of the excel-file) of the test-class concurrently. Each test
+ * gets its own TestContext, so the tests are isolated from each other.
+ *
+ * @author fabian
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JExUnitConcurrency {
+
+    /**
+     * Number of threads to run the tests (1 = sequential, 0 = number of available processors).
+     *
+     * @return the number of threads
+     */
+    int threads() default 0;
+
+}
@@ -0,0 +1,53 @@
+package com.jexunit.core.junit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to run the tests (the worksheets of the excel-file) of the test-class as load test. The test-cases of all
+ * the worksheets are run by a number of concurrent (virtual) users, each with its own TestContext. The latencies and
+ * the throughput per test-command are written to a report
+ * ({@link com.jexunit.core.JExUnitConfig.ConfigKey#LOAD_TEST_DIRECTORY}) instead of failing the JUnit-tests, so the
+ * tests will be reported as ignored.
+ * <p>
+ * The values of the annotation can be overridden via the configuration (for example to run a functional test-class
+ * as load test via <code>-Djexunit.loadtest.users=10</code>).
+ * </p>
+ *
+ * @author fabian
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JExUnitLoadTest {
+
+    /**
+     * Number of concurrent (virtual) users.
+     *
+     * @return the number of users
+     */
+    int users() default 1;
+
+    /**
+     * Time (in seconds) to start all the users. The start of the users is spread evenly over this time.
+     *
+     * @return the ramp-up time in seconds
+     */
+    int rampUpSeconds() default 0;
+
+    /**
+     * Duration (in seconds) each user repeats the test-cases. If set (&gt; 0), the {@link #iterations()} are ignored.
+     *
+     * @return the duration in seconds
+     */
+    int durationSeconds() default 0;
+
+    /**
+     * Number of times each user runs all the test-cases (if no {@link #durationSeconds()} is set).
+     *
+     * @return the number of iterations
+     */
+    int iterations() default 1;
+
+}
@@ -0,0 +1,176 @@
+package com.jexunit.core.junit;
+
+import com.jexunit.core.JExUnitBase;
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.commands.DefaultCommands;
+import com.jexunit.core.commands.TestCommandRunner;
+import com.jexunit.core.context.TestContext;
+import com.jexunit.core.context.TestContextManager;
+import com.jexunit.core.metrics.LoadTestReport;
+import com.jexunit.core.model.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runner for the load tests (see {@link JExUnitLoadTest}). The test-cases of all the test groups (worksheets) are run
+ * by a number of (virtual) users concurrently. Each user runs on its own thread with its own TestContext, its own
+ * instance of the test-class and its own copies of the test-cases. The results are recorded in a
+ * {@link LoadTestReport}; failing test-commands are counted as errors instead of failing the test.
+ *
+ * @author fabian
+ */
+class LoadTestRunner {
+
+    private static final Logger LOG = Logger.getLogger(LoadTestRunner.class.getName());
+
+    private final Class<?> testClass;
+    private final Class<?> testType;
+    private final LoadTestSettings settings;
+
+    /**
+     * Create the runner.
+     *
+     * @param testClass the test-class (extending {@link JExUnitBase})
+     * @param testType  the type of the test-class running the tests via <code>@RunWith(JExUnit.class)</code>, may be
+     *                  <code>null</code>
+     * @param settings  the settings of the load test
+     */
+    LoadTestRunner(final Class<?> testClass, final Class<?> testType, final LoadTestSettings settings) {
+        this.testClass = testClass;
+        this.testType = testType;
+        this.settings = settings;
+    }
+
+    /**
+     * Run the load test.
+     *
+     * @param name       the name of the load test (for the report)
+     * @param testGroups the test-cases of the test groups to run
+     * @return the results of the load test
+     * @throws Exception in case that something goes wrong (failing test-commands are reported as errors)
+     */
+    LoadTestReport run(final String name, final List<List<TestCase<?>>> testGroups) throws Exception {
+        final int users = settings.getUsers();
+        final LoadTestReport report = new LoadTestReport(name, users);
+        final TestContext parentContext = TestContextManager.getTestContext();
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(users, r -> {
+            final Thread thread = new Thread(r, String.format("jexunit-loadtest-%s-%s", name,
+                    threadNumber.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long start = System.nanoTime();
+        final long deadline = settings.getDurationSeconds() > 0
+                ? start + TimeUnit.SECONDS.toNanos(settings.getDurationSeconds()) : Long.MAX_VALUE;
+        final List<Future<?>> futures = new ArrayList<>(users);
+        try {
+            for (int user = 0; user < users; user++) {
+                // spread the start of the users evenly over the ramp-up time
+                final long delay = TimeUnit.SECONDS.toNanos(settings.getRampUpSeconds()) * user / users;
+                futures.add(executor.submit(() -> {
+                    TestContextManager.setTestContext(new TestContext(parentContext));
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(delay);
+                        runUser(testGroups, report, deadline);
+                    } finally {
+                        TestContextManager.removeTestContext();
+                    }
+                    return null;
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Error running the load test.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        report.setElapsed(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Run the test-cases as a single (virtual) user.
+     */
+    private void runUser(final List<List<TestCase<?>>> testGroups, final LoadTestReport report, final long deadline)
+            throws Exception {
+        final TestCommandRunner runner = new TestCommandRunner(createTest());
+        final List<List<TestCase<?>>> copies = new ArrayList<>(testGroups.size());
+        for (final List<TestCase<?>> testCases : testGroups) {
+            final List<TestCase<?>> copy = new ArrayList<>(testCases.size());
+            // the copies can be modified by the test-command runner (removing the framework parameters, ...) without
+            // affecting the other users
+            for (final TestCase<?> testCase : testCases) {
+                copy.add(new TestCase<>(testCase));
+            }
+            copies.add(copy);
+        }
+
+        final boolean timed = settings.getDurationSeconds() > 0;
+        for (int iteration = 0; timed || iteration < settings.getIterations(); iteration++) {
+            for (final List<TestCase<?>> testCases : copies) {
+                for (final TestCase<?> testCase : testCases) {
+                    if (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    if (JExUnitConfig.getDefaultCommandProperty(DefaultCommands.DISABLED)
+                            .equalsIgnoreCase(testCase.getTestCommand())) {
+                        if (testCase.isDisabled()) {
+                            // the test group is disabled
+                            break;
+                        }
+                        continue;
+                    }
+                    if (testCase.isDisabled() || JExUnitConfig.getDefaultCommandProperty(DefaultCommands.REPORT)
+                            .equalsIgnoreCase(testCase.getTestCommand())) {
+                        continue;
+                    }
+                    runTestCase(runner, testCase, report);
+                }
+            }
+        }
+    }
+
+    private void runTestCase(final TestCommandRunner runner, final TestCase<?> testCase,
+                             final LoadTestReport report) {
+        boolean failed;
+        final long start = System.nanoTime();
+        try {
+            runner.runTestCommand(testCase);
+            // if an exception is expected, but no exception is thrown, the test-command failed
+            failed = testCase.isExceptionExpected();
+        } catch (final Exception | AssertionError e) {
+            failed = !testCase.isExceptionExpected();
+            if (failed) {
+                LOG.log(Level.FINE, String.format("TestCommand failed: %s, %s", testCase.getTestCommand(),
+                        testCase.getMetadata() != null ? testCase.getMetadata().getDetailedIdentifier() : null), e);
+            }
+        }
+        report.record(testCase.getNormalizedTestCommand(), System.nanoTime() - start, failed);
+    }
+
+    private JExUnitBase createTest() throws Exception {
+        if (!JExUnitBase.class.isAssignableFrom(testClass)) {
+            throw new IllegalArgumentException(String.format("The test-class %s has to extend %s for load tests!",
+                    testClass.getName(), JExUnitBase.class.getName()));
+        }
+        final JExUnitBase test = (JExUnitBase) testClass.newInstance();
+        if (testClass == JExUnitBase.class) {
+            test.setTestType(testType);
+        }
+        return test;
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.jexunit.core.junit;
+
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.JExUnitConfig.ConfigKey;
+
+/**
+ * The settings of a load test, out of the {@link JExUnitLoadTest}-annotation of the test-class and the configuration.
+ * The configuration (if set) overrides the annotation.
+ *
+ * @author fabian
+ */
+final class LoadTestSettings {
+
+    private final int users;
+    private final int rampUpSeconds;
+    private final int durationSeconds;
+    private final int iterations;
+
+    LoadTestSettings(final int users, final int rampUpSeconds, final int durationSeconds, final int iterations) {
+        this.users = users;
+        this.rampUpSeconds = rampUpSeconds;
+        this.durationSeconds = durationSeconds;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Get the load test settings for the given test-class.
+     *
+     * @param type the test-class
+     * @return the settings of the load test (see {@link #isEnabled()})
+     */
+    static LoadTestSettings of(final Class<?> type) {
+        final JExUnitLoadTest annotation = type.getAnnotation(JExUnitLoadTest.class);
+        return new LoadTestSettings(
+                get(ConfigKey.LOAD_TEST_USERS, annotation != null ? annotation.users() : 0),
+                get(ConfigKey.LOAD_TEST_RAMP_UP, annotation != null ? annotation.rampUpSeconds() : 0),
+                get(ConfigKey.LOAD_TEST_DURATION, annotation != null ? annotation.durationSeconds() : 0),
+                get(ConfigKey.LOAD_TEST_ITERATIONS, annotation != null ? annotation.iterations() : 1));
+    }
+
+    private static int get(final ConfigKey key, final int defaultValue) {
+        final String value = JExUnitConfig.getStringProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Check, if the tests have to run as load test.
+     *
+     * @return true, if there is at least one user, else false
+     */
+    boolean isEnabled() {
+        return users > 0;
+    }
+
+    int getUsers() {
+        return users;
+    }
+
+    int getRampUpSeconds() {
+        return rampUpSeconds;
+    }
+
+    int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    int getIterations() {
+        return iterations;
+    }
+
+}
@@ -1,14 +1,27 @@
 package com.jexunit.core.junit;
 
 import com.jexunit.core.JExUnitBase;
+import com.jexunit.core.JExUnitConfig;
 import com.jexunit.core.commands.TestCommandScanner;
+import com.jexunit.core.commands.validation.CommandValidator;
 import com.jexunit.core.context.TestContextManager;
 import com.jexunit.core.dataprovider.ExcelFile;
+import com.jexunit.core.metrics.LoadTestReport;
+import com.jexunit.core.metrics.Metrics;
+import com.jexunit.core.metrics.MetricsReport;
+import com.jexunit.core.metrics.Phase;
 import com.jexunit.core.model.TestCase;
 import com.jexunit.core.spi.ServiceRegistry;
 import com.jexunit.core.spi.data.DataProvider;
-import eu.infomas.annotation.AnnotationDetector;
+import com.jexunit.core.spi.data.StreamingDataProvider;
+import com.jexunit.core.spi.data.TestDataCursor;
+import org.junit.runner.Description;
 import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.manipulation.Sortable;
+import org.junit.runner.manipulation.Sorter;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.Parameterized.Parameter;
@@ -22,10 +35,18 @@ import org.junit.runners.model.Statement;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * This is an "extension" of the {@link org.junit.runners.Parameterized} JUnit-Runner to run each excel-worksheet as a
@@ -44,9 +65,10 @@ public class Parameterized extends Suite {
      */
     private class TestClassRunnerForParameters extends BlockJUnit4ClassRunner {
 
-        private final Object[] fParameters;
-        private final String fName;
+        private Object[] fParameters;
+        private String fName;
         private final Class<?> testType;
+        private final String testGroup;
 
         TestClassRunnerForParameters(final Class<?> type, final Object[] parameters, final String name, final Class<?> testType)
                 throws InitializationError {
@@ -54,6 +76,32 @@ public class Parameterized extends Suite {
             fParameters = parameters;
             fName = name;
             this.testType = testType;
+            this.testGroup = null;
+        }
+
+        /**
+         * Create a runner for a streamed test group. The test data will not be loaded until the test is running.
+         */
+        TestClassRunnerForParameters(final Class<?> type, final String testGroup, final String name, final Class<?> testType)
+                throws InitializationError {
+            super(type);
+            fParameters = null;
+            fName = name;
+            this.testType = testType;
+            this.testGroup = testGroup;
+        }
+
+        /**
+         * Get the parameters for the test. If the test data is streamed, the test group will be loaded now.
+         *
+         * @return the parameters for the test
+         * @throws Exception in case that something goes wrong
+         */
+        private Object[] getParameters() throws Exception {
+            if (fParameters != null) {
+                return fParameters;
+            }
+            return new Object[]{loadTestGroup(testGroup)};
         }
 
         @Override
@@ -66,15 +114,16 @@ public class Parameterized extends Suite {
         }
 
         private Object createTestUsingConstructorInjection() throws Exception {
-            return getTestClass().getOnlyConstructor().newInstance(fParameters);
+            return getTestClass().getOnlyConstructor().newInstance(getParameters());
         }
 
         private Object createTestUsingFieldInjection() throws Exception {
+            final Object[] parameters = getParameters();
             final List<FrameworkField> annotatedFieldsByParameter = getAnnotatedFieldsByParameter();
-            if (annotatedFieldsByParameter.size() != fParameters.length) {
+            if (annotatedFieldsByParameter.size() != parameters.length) {
                 throw new Exception(String.format(
                         "Wrong number of parameters and @Parameter fields. @Parameter fields counted: %s, available parameters: %s.",
-                        annotatedFieldsByParameter.size(), fParameters.length));
+                        annotatedFieldsByParameter.size(), parameters.length));
             }
             final Object testClassInstance = getTestClass().getJavaClass().newInstance();
             if (getTestClass().getJavaClass() == JExUnitBase.class) {
@@ -86,24 +135,55 @@ public class Parameterized extends Suite {
                 final int index = annotation.value();
                 try {
                     if (field.isAccessible()) {
-                        field.set(testClassInstance, fParameters[index]);
+                        field.set(testClassInstance, parameters[index]);
                     } else {
                         field.setAccessible(true);
-                        field.set(testClassInstance, fParameters[index]);
+                        field.set(testClassInstance, parameters[index]);
                         field.setAccessible(false);
                     }
                 } catch (final IllegalArgumentException iare) {
                     throw new Exception(
                             String.format(
                                     "%s: Trying to set %s with the value %s that is not the right type (%s instead of %s).",
-                                    getTestClass().getName(), field.getName(), fParameters[index],
-                                    fParameters[index].getClass().getSimpleName(), field.getType().getSimpleName()),
+                                    getTestClass().getName(), field.getName(), parameters[index],
+                                    parameters[index].getClass().getSimpleName(), field.getType().getSimpleName()),
                             iare);
                 }
             }
             return testClassInstance;
         }
 
+        /**
+         * Get the test methods of the test class.
+         *
+         * @return the test methods
+         */
+        List<FrameworkMethod> getTestMethods() {
+            return getChildren();
+        }
+
+        /**
+         * Run the given test methods with the parameters of a single {@link RowRunner}. So a single (validated) runner
+         * can run the tests of all the rows.
+         *
+         * @param parameters the parameters of the row
+         * @param name       the name of the row
+         * @param methods    the test methods to run
+         * @param notifier   the notifier
+         */
+        void runRow(final Object[] parameters, final String name, final List<FrameworkMethod> methods,
+                    final RunNotifier notifier) {
+            fParameters = parameters;
+            fName = name;
+            try {
+                for (final FrameworkMethod method : methods) {
+                    runChild(method, notifier);
+                }
+            } finally {
+                fParameters = null;
+            }
+        }
+
         @Override
         protected String getName() {
             return fName;
@@ -114,6 +194,11 @@ public class Parameterized extends Suite {
             return method.getName() + getName();
         }
 
+        @Override
+        protected Description describeChild(final FrameworkMethod method) {
+            return describeMethod(method, getName());
+        }
+
         @Override
         protected void validateConstructor(final List<Throwable> errors) {
             validateOnlyOneConstructor(errors);
@@ -162,18 +247,122 @@ public class Parameterized extends Suite {
 
     }
 
+    /**
+     * Lightweight runner for a single set of parameters (a row of a mass test or a worksheet). In contrast to the
+     * {@link TestClassRunnerForParameters} the class is not scanned and validated per runner and the description is
+     * built lazily. The tests are run by a {@link TestClassRunnerForParameters} shared by all the rows (one per
+     * thread).
+     */
+    private class RowRunner extends Runner implements Filterable, Sortable {
+
+        private final Object[] parameters;
+        private final String name;
+        /**
+         * the test methods to run (filtered) or null to run all the test methods
+         */
+        private List<FrameworkMethod> methods;
+        private Description description;
+
+        RowRunner(final Object[] parameters, final String name) {
+            this.parameters = parameters;
+            this.name = name;
+        }
+
+        private List<FrameworkMethod> getMethods() {
+            return methods != null ? methods : testMethods;
+        }
+
+        @Override
+        public synchronized Description getDescription() {
+            if (description == null) {
+                description = Description.createSuiteDescription(name);
+                for (final FrameworkMethod method : getMethods()) {
+                    description.addChild(describeMethod(method, name));
+                }
+            }
+            return description;
+        }
+
+        @Override
+        public void run(final RunNotifier notifier) {
+            rowExecutors.get().runRow(parameters, name, getMethods(), notifier);
+        }
+
+        @Override
+        public synchronized void filter(final Filter filter) throws NoTestsRemainException {
+            final List<FrameworkMethod> filtered = new ArrayList<>();
+            for (final FrameworkMethod method : getMethods()) {
+                if (filter.shouldRun(describeMethod(method, name))) {
+                    filtered.add(method);
+                }
+            }
+            if (filtered.isEmpty()) {
+                throw new NoTestsRemainException();
+            }
+            methods = filtered;
+            description = null;
+        }
+
+        @Override
+        public synchronized void sort(final Sorter sorter) {
+            final List<FrameworkMethod> sorted = new ArrayList<>(getMethods());
+            Collections.sort(sorted, new Comparator<FrameworkMethod>() {
+
+                @Override
+                public int compare(final FrameworkMethod o1, final FrameworkMethod o2) {
+                    return sorter.compare(describeMethod(o1, name), describeMethod(o2, name));
+                }
+            });
+            methods = sorted;
+            description = null;
+        }
+    }
+
+    private static final Logger LOG = Logger.getLogger(Parameterized.class.getName());
+
+    /**
+     * placeholder for the index (the identifier) of the test in the name pattern
+     */
+    private static final String INDEX_PLACEHOLDER = "{index}";
+
     private static final List<Runner> NO_RUNNERS = Collections.<Runner>emptyList();
     private final ArrayList<Runner> runners = new ArrayList<>();
     private Class<?> testType;
     private String identifier;
 
+    private DataProvider dataProvider;
+    private int testNumber;
+    /**
+     * cursor over the test groups, if the test data is streamed
+     */
+    private TestDataCursor cursor;
+
+    /**
+     * the test methods of the test class (shared by all the {@link RowRunner}s)
+     */
+    private List<FrameworkMethod> testMethods;
+    /**
+     * the runners executing the tests of the {@link RowRunner}s (one per thread)
+     */
+    private ThreadLocal<TestClassRunnerForParameters> rowExecutors;
+    /**
+     * the pre-compiled name patterns (per number of arguments)
+     */
+    private final Map<Integer, MessageFormat> nameFormats = new HashMap<>();
+    /**
+     * the settings of the load test, if the tests run as load test
+     */
+    private LoadTestSettings loadTest;
+
     static {
         // scan classes for test commands
-        final AnnotationDetector detector = new AnnotationDetector(new TestCommandScanner());
+        final long start = Metrics.start();
         try {
-            detector.detect();
+            TestCommandScanner.scan();
         } catch (final IOException e) {
             e.printStackTrace();
+        } finally {
+            Metrics.stop(Phase.SCAN, start);
         }
     }
 
@@ -206,8 +395,9 @@ public class Parameterized extends Suite {
         TestContextManager.add(DataProvider.class, dataprovider);
         dataprovider.initialize(clazz);
 
-        final Parameters parameters = getParametersMethod().getAnnotation(Parameters.class);
-        createRunnersForParameters(allParameters(0), parameters.name());
+        this.dataProvider = dataprovider;
+        this.testNumber = 0;
+        createRunners();
     }
 
     public Parameterized(final Class<?> clazz, final Class<?> testType, final int testNumber, final String identifier) throws Throwable {
@@ -215,8 +405,9 @@ public class Parameterized extends Suite {
         this.testType = testType;
         this.identifier = identifier;
 
-        final Parameters parameters = getParametersMethod().getAnnotation(Parameters.class);
-        createRunnersForParameters(allParameters(testNumber), parameters.name());
+        this.dataProvider = TestContextManager.get(DataProvider.class);
+        this.testNumber = testNumber;
+        createRunners();
     }
 
     @Override
@@ -224,6 +415,192 @@ public class Parameterized extends Suite {
         return runners;
     }
 
+    @Override
+    public void run(final RunNotifier notifier) {
+        // resolve the commands for the test type once, before running the tests
+        TestCommandScanner.getCommandTable(testType);
+        try {
+            final LoadTestSettings loadTest = LoadTestSettings.of(getType());
+            if (loadTest.isEnabled()) {
+                // the load test runs inside the class block, so the class-level befores/afters and rules apply
+                this.loadTest = loadTest;
+                super.run(notifier);
+                return;
+            }
+            final int threads = getConcurrencyThreads();
+            if (threads > 1) {
+                setScheduler(new ConcurrentRunnerScheduler(getTestClass().getJavaClass().getSimpleName(), threads));
+                super.run(new SynchronizedRunNotifier(notifier));
+            } else {
+                super.run(notifier);
+            }
+        } finally {
+            closeCursor();
+            MetricsReport.write();
+        }
+    }
+
+    @Override
+    protected Statement childrenInvoker(final RunNotifier notifier) {
+        if (loadTest == null) {
+            return super.childrenInvoker(notifier);
+        }
+        final LoadTestSettings settings = loadTest;
+        return new Statement() {
+
+            @Override
+            public void evaluate() throws Throwable {
+                runLoadTest(notifier, settings);
+            }
+        };
+    }
+
+    /**
+     * Run the tests as load test (see {@link JExUnitLoadTest}) and write the report. The tests will not run as JUnit
+     * tests, so they are reported as ignored.
+     *
+     * @param notifier the notifier
+     * @param settings the settings of the load test
+     * @throws Exception in case that the load test cannot be run (failing test-commands are reported as errors)
+     */
+    private void runLoadTest(final RunNotifier notifier, final LoadTestSettings settings) throws Exception {
+        final Description description = getDescription();
+        final List<List<TestCase<?>>> testGroups = new ArrayList<>();
+        for (final Runner runner : runners) {
+            testGroups.add(getTestCases(runner));
+        }
+        // the excel-files may be used by multiple test-classes
+        final String name = identifier != null ? getType().getSimpleName() + "-" + getName() : getName();
+        final LoadTestReport report = new LoadTestRunner(getTestClass().getJavaClass(), testType, settings)
+                .run(name, testGroups);
+        final Path file = report.write(
+                Paths.get(JExUnitConfig.getStringProperty(JExUnitConfig.ConfigKey.LOAD_TEST_DIRECTORY)));
+        LOG.info(String.format("Load test finished: %s (report: %s)", report, file));
+        for (final Description child : description.getChildren()) {
+            for (final Description test : child.getChildren()) {
+                notifier.fireTestIgnored(test);
+            }
+        }
+    }
+
+    /**
+     * Get the test-cases run by the given runner (a worksheet).
+     *
+     * @param runner the runner of a single test
+     * @return the test-cases of the test
+     * @throws Exception in case that something goes wrong
+     */
+    @SuppressWarnings("unchecked")
+    private List<TestCase<?>> getTestCases(final Runner runner) throws Exception {
+        final Object[] parameters = runner instanceof RowRunner ? ((RowRunner) runner).parameters
+                : ((TestClassRunnerForParameters) runner).getParameters();
+        if (parameters.length == 0 || !(parameters[0] instanceof List)) {
+            throw new IllegalArgumentException("Load tests need a list of test-cases as parameter of the test!");
+        }
+        return (List<TestCase<?>>) parameters[0];
+    }
+
+    /**
+     * Get the type of the test-class (the class annotated with <code>@RunWith</code>).
+     *
+     * @return the type of the test-class
+     */
+    private Class<?> getType() {
+        return testType != null ? testType : getTestClass().getJavaClass();
+    }
+
+    /**
+     * Get the number of threads to run the tests concurrently. This can be configured via the
+     * {@link JExUnitConcurrency}-annotation on the test-class or via the configuration.
+     *
+     * @return the number of threads to run the tests (1 = sequential)
+     */
+    private int getConcurrencyThreads() {
+        final JExUnitConcurrency concurrency = getType().getAnnotation(JExUnitConcurrency.class);
+        int threads = concurrency != null ? concurrency.threads()
+                : JExUnitConfig.getIntProperty(JExUnitConfig.ConfigKey.CONCURRENCY_THREADS);
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        return Math.min(threads, runners.size());
+    }
+
+    /**
+     * Create the runners for the test. If the data provider is able to stream the test data, only the names of the
+     * test groups will be read now. The test data of a test group will be loaded when its runner is running.
+     *
+     * @throws Throwable in case that something goes wrong
+     */
+    private void createRunners() throws Throwable {
+        final Parameters parameters = getParametersMethod().getAnnotation(Parameters.class);
+        if (isStreaming()) {
+            createRunnersForTestGroups(readTestGroups(), parameters.name());
+        } else {
+            createRunnersForParameters(allParameters(testNumber), parameters.name());
+        }
+    }
+
+    private boolean isStreaming() {
+        return dataProvider instanceof StreamingDataProvider
+                && ((StreamingDataProvider) dataProvider).isStreamable(testNumber);
+    }
+
+    /**
+     * Read the names of the test groups without loading the test data.
+     *
+     * @return the names of the test groups
+     * @throws Exception in case that something goes wrong
+     */
+    private List<String> readTestGroups() throws Exception {
+        final List<String> testGroups = new ArrayList<>();
+        try (final TestDataCursor c = ((StreamingDataProvider) dataProvider).openTestData(testNumber)) {
+            while (c.hasNext()) {
+                testGroups.add(c.getNextTestGroup());
+                c.skip();
+            }
+        }
+        return testGroups;
+    }
+
+    /**
+     * Load the test data of the given test group out of the (streaming) data provider. Normally the test groups will
+     * be requested in the same order as they are read, so the cursor only has to move forward. If the test group was
+     * already passed, the cursor will be reopened.
+     *
+     * @param testGroup the name of the test group to load
+     * @return the validated test data of the test group
+     * @throws Exception in case that something goes wrong
+     */
+    private synchronized List<TestCase<?>> loadTestGroup(final String testGroup) throws Exception {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (cursor == null) {
+                cursor = ((StreamingDataProvider) dataProvider).openTestData(testNumber);
+            }
+            while (cursor.hasNext()) {
+                if (testGroup.equals(cursor.getNextTestGroup())) {
+                    final List<TestCase<?>> testCases = cursor.next();
+                    CommandValidator.validateTestCases(testCases);
+                    return testCases;
+                }
+                cursor.skip();
+            }
+            // the test group was already passed, so start reading from the beginning
+            closeCursor();
+        }
+        throw new IllegalArgumentException(String.format("Test group '%s' not found!", testGroup));
+    }
+
+    private synchronized void closeCursor() {
+        if (cursor != null) {
+            try {
+                cursor.close();
+            } catch (final IOException e) {
+                LOG.log(Level.WARNING, "Error closing the test data cursor.", e);
+            }
+            cursor = null;
+        }
+    }
+
     @Override
     protected String getName() {
         final StringBuilder sb = new StringBuilder();
@@ -261,10 +638,11 @@ public class Parameterized extends Suite {
         try {
             int i = 0;
             for (final Object[] parametersOfSingleTest : allParameters) {
+                if (i == 0) {
+                    prepareRowRunners();
+                }
                 final String name = nameFor(namePattern, i, parametersOfSingleTest);
-                final TestClassRunnerForParameters runner = new TestClassRunnerForParameters(getTestClass().getJavaClass(),
-                        parametersOfSingleTest, name, testType);
-                runners.add(runner);
+                runners.add(new RowRunner(parametersOfSingleTest, name));
                 ++i;
             }
         } catch (final ClassCastException e) {
@@ -272,18 +650,53 @@ public class Parameterized extends Suite {
         }
     }
 
-    private String nameFor(final String namePattern, final int index, final Object[] parameters) {
-        String finalPattern;
-        if (getSimpleExcelFileName() != null) {
-            // change the name of the test to be unique in case of excelFileName is set (i.e. for
-            // mass tests)
-            finalPattern = getSimpleExcelFileName() + " - " + namePattern;
-        } else {
-            finalPattern = namePattern;
+    /**
+     * Validate the test class once and prepare the metadata shared by all the {@link RowRunner}s.
+     *
+     * @throws InitializationError if the test class is not valid
+     */
+    private void prepareRowRunners() throws InitializationError {
+        final TestClassRunnerForParameters validated = createRowExecutor();
+        testMethods = validated.getTestMethods();
+        rowExecutors = new ThreadLocal<TestClassRunnerForParameters>() {
+            @Override
+            protected TestClassRunnerForParameters initialValue() {
+                try {
+                    return createRowExecutor();
+                } catch (final InitializationError e) {
+                    // the test class was already validated successfully
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        rowExecutors.set(validated);
+    }
+
+    private TestClassRunnerForParameters createRowExecutor() throws InitializationError {
+        return new TestClassRunnerForParameters(getTestClass().getJavaClass(), (Object[]) null, "", testType);
+    }
+
+    /**
+     * Describe the given test method for the test (row) with the given name. This has to be the same description the
+     * {@link TestClassRunnerForParameters} reports on running the test.
+     */
+    private Description describeMethod(final FrameworkMethod method, final String name) {
+        return Description.createTestDescription(getTestClass().getJavaClass(), method.getName() + name,
+                method.getAnnotations());
+    }
+
+    private void createRunnersForTestGroups(final List<String> testGroups, final String namePattern)
+            throws InitializationError {
+        for (int i = 0; i < testGroups.size(); i++) {
+            final String testGroup = testGroups.get(i);
+            final String name = nameFor(namePattern, i, new Object[]{testGroup});
+            runners.add(new TestClassRunnerForParameters(getTestClass().getJavaClass(), testGroup, name, testType));
         }
+    }
 
-        final String name;
+    private String nameFor(final String namePattern, final int index, final Object[] parameters) {
         String idx = Integer.toString(index);
+        final Object[] arguments;
 
         if (parameters != null && parameters.length > 0 && parameters[0] instanceof List
                 && !((List<?>) parameters[0]).isEmpty() && ((List<?>) parameters[0]).get(0) instanceof TestCase) {
@@ -291,14 +704,39 @@ public class Parameterized extends Suite {
             if (tc.getMetadata() != null) {
                 idx = tc.getMetadata().getIdentifier();
             }
-            finalPattern = finalPattern.replaceAll("\\{index\\}", idx);
-            name = MessageFormat.format(finalPattern, ((List<?>) parameters[0]).get(0));
+            arguments = new Object[]{tc, idx};
         } else {
-            finalPattern = finalPattern.replaceAll("\\{index\\}", idx);
-            name = MessageFormat.format(finalPattern, parameters);
+            final int length = parameters != null ? parameters.length : 0;
+            arguments = Arrays.copyOf(parameters != null ? parameters : new Object[0], length + 1);
+            arguments[length] = idx;
         }
 
-        return "[" + name + "]";
+        return "[" + getNameFormat(namePattern, arguments.length - 1).format(arguments) + "]";
+    }
+
+    /**
+     * Get the (pre-compiled) format for the name pattern. The <i>{index}</i>-placeholder will be the argument behind
+     * the parameters, so the pattern has to be parsed only once.
+     *
+     * @param namePattern the name pattern
+     * @param parameters  the number of parameters
+     * @return the format for the names of the tests
+     */
+    private MessageFormat getNameFormat(final String namePattern, final int parameters) {
+        MessageFormat format = nameFormats.get(parameters);
+        if (format == null) {
+            String finalPattern;
+            if (getSimpleExcelFileName() != null) {
+                // change the name of the test to be unique in case of excelFileName is set (i.e. for
+                // mass tests)
+                finalPattern = getSimpleExcelFileName() + " - " + namePattern;
+            } else {
+                finalPattern = namePattern;
+            }
+            format = new MessageFormat(finalPattern.replace(INDEX_PLACEHOLDER, "{" + parameters + "}"));
+            nameFormats.put(parameters, format);
+        }
+        return format;
     }
 
     /**
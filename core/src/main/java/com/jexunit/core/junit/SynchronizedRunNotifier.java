@@ -0,0 +1,80 @@
+package com.jexunit.core.junit;
+
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runner.notification.StoppedByUserException;
+
+/**
+ * RunNotifier delegating all the events synchronized to the given notifier. So the listeners (for example of the build
+ * tool), which are not necessarily thread-safe, will be notified by one thread at a time if the tests are running
+ * concurrently.
+ *
+ * @author fabian
+ */
+class SynchronizedRunNotifier extends RunNotifier {
+
+    private final RunNotifier notifier;
+
+    SynchronizedRunNotifier(final RunNotifier notifier) {
+        this.notifier = notifier;
+    }
+
+    @Override
+    public synchronized void addListener(final RunListener listener) {
+        notifier.addListener(listener);
+    }
+
+    @Override
+    public synchronized void addFirstListener(final RunListener listener) {
+        notifier.addFirstListener(listener);
+    }
+
+    @Override
+    public synchronized void removeListener(final RunListener listener) {
+        notifier.removeListener(listener);
+    }
+
+    @Override
+    public synchronized void fireTestRunStarted(final Description description) {
+        notifier.fireTestRunStarted(description);
+    }
+
+    @Override
+    public synchronized void fireTestRunFinished(final Result result) {
+        notifier.fireTestRunFinished(result);
+    }
+
+    @Override
+    public synchronized void fireTestStarted(final Description description) throws StoppedByUserException {
+        notifier.fireTestStarted(description);
+    }
+
+    @Override
+    public synchronized void fireTestFailure(final Failure failure) {
+        notifier.fireTestFailure(failure);
+    }
+
+    @Override
+    public synchronized void fireTestAssumptionFailed(final Failure failure) {
+        notifier.fireTestAssumptionFailed(failure);
+    }
+
+    @Override
+    public synchronized void fireTestIgnored(final Description description) {
+        notifier.fireTestIgnored(description);
+    }
+
+    @Override
+    public synchronized void fireTestFinished(final Description description) {
+        notifier.fireTestFinished(description);
+    }
+
+    @Override
+    public synchronized void pleaseStop() {
+        notifier.pleaseStop();
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.jexunit.core.metrics;
+
+import com.jexunit.core.dataprovider.ExcelMetadata;
+import com.jexunit.core.model.Metadata;
+import com.jexunit.core.model.TestCase;
+
+/**
+ * Custom events for the Java Flight Recorder (JFR), so the activities of JExUnit (loading the workbooks, parsing the
+ * worksheets, resolving, binding and invoking the test-commands) show up in the recordings with the worksheet, the row
+ * and the test-command as fields.
+ * <p>
+ * The events are only created, if the flight recorder is running and the event is enabled in the recording. Otherwise
+ * {@link #begin(Type)} returns <code>null</code> and {@link #commit(Object, String, String, int, String)} does nothing,
+ * so there are no allocations and no clock reads. On JVMs without the <code>jdk.jfr</code> API (before JDK 8u262)
+ * the events are always disabled.
+ * </p>
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * final Object event = FlightRecorderEvents.begin(Type.COMMAND_INVOKE);
+ * // the code to record
+ * FlightRecorderEvents.commit(event, testCase);
+ * </pre>
+ *
+ * @author fabian
+ */
+public final class FlightRecorderEvents {
+
+    private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    /**
+     * The types of the events.
+     */
+    public enum Type {
+        /**
+         * reading (and parsing) an excel-file
+         */
+        WORKBOOK_LOAD,
+        /**
+         * parsing a single worksheet
+         */
+        SHEET_PARSE,
+        /**
+         * resolving the implementation of a test-command
+         */
+        COMMAND_RESOLVE,
+        /**
+         * binding the values of a test-case to the parameters (and fields) of the test-command
+         */
+        PARAMETER_BIND,
+        /**
+         * invoking a test-command
+         */
+        COMMAND_INVOKE
+    }
+
+    // Utility class, only static access
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Check, if the JFR-API is available in the current JVM.
+     *
+     * @return true, if the events can be recorded, else false
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Begin an event of the given type.
+     *
+     * @param type the type of the event
+     * @return the event begun or <code>null</code>, if the event is not recorded
+     */
+    public static Object begin(final Type type) {
+        return AVAILABLE ? FlightRecorderSupport.begin(type) : null;
+    }
+
+    /**
+     * End the event and commit it with the given fields.
+     *
+     * @param event   the event returned by {@link #begin(Type)}
+     * @param file    the excel-file (may be <code>null</code>)
+     * @param sheet   the worksheet (may be <code>null</code>)
+     * @param row     the row of the test-case (0, if unknown)
+     * @param command the test-command (may be <code>null</code>)
+     */
+    public static void commit(final Object event, final String file, final String sheet, final int row,
+                              final String command) {
+        if (event != null) {
+            FlightRecorderSupport.commit(event, file, sheet, row, command);
+        }
+    }
+
+    /**
+     * End the event and commit it with the worksheet, the row and the test-command of the given test-case.
+     *
+     * @param event    the event returned by {@link #begin(Type)}
+     * @param testCase the current test-case
+     */
+    public static void commit(final Object event, final TestCase<?> testCase) {
+        if (event != null) {
+            final Metadata metadata = testCase.getMetadata();
+            final String sheet = metadata != null ? metadata.getTestGroup() : null;
+            final int row = metadata instanceof ExcelMetadata ? ((ExcelMetadata) metadata).getRow() : 0;
+            FlightRecorderSupport.commit(event, null, sheet, row, testCase.getTestCommand());
+        }
+    }
+
+    /**
+     * Check, if the JFR-API can be loaded. The {@link FlightRecorderSupport} (referencing the API) will only be loaded,
+     * if it is available.
+     *
+     * @return true, if the JFR-API is available, else false
+     */
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+}
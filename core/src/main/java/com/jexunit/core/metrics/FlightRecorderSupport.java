@@ -0,0 +1,114 @@
+package com.jexunit.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JFR-events of JExUnit. This class references the <code>jdk.jfr</code>-API, so it may only be loaded via the
+ * {@link FlightRecorderEvents}, if the API is available.
+ *
+ * @author fabian
+ */
+final class FlightRecorderSupport {
+
+    // Utility class, only static access
+    private FlightRecorderSupport() {
+    }
+
+    static Object begin(final FlightRecorderEvents.Type type) {
+        // no recording was ever started, so there is no need to create the event
+        if (!FlightRecorder.isInitialized()) {
+            return null;
+        }
+        final JExUnitEvent event;
+        switch (type) {
+            case WORKBOOK_LOAD:
+                event = new WorkbookLoadEvent();
+                break;
+            case SHEET_PARSE:
+                event = new SheetParseEvent();
+                break;
+            case COMMAND_RESOLVE:
+                event = new CommandResolveEvent();
+                break;
+            case PARAMETER_BIND:
+                event = new ParameterBindEvent();
+                break;
+            case COMMAND_INVOKE:
+            default:
+                event = new CommandInvokeEvent();
+                break;
+        }
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commit(final Object e, final String file, final String sheet, final int row, final String command) {
+        final JExUnitEvent event = (JExUnitEvent) e;
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = file;
+            event.sheet = sheet;
+            event.row = row;
+            event.command = command;
+            event.commit();
+        }
+    }
+
+    /**
+     * The fields common to all the events of JExUnit.
+     */
+    @Category("JExUnit")
+    abstract static class JExUnitEvent extends Event {
+
+        @Label("File")
+        String file;
+
+        @Label("Sheet")
+        String sheet;
+
+        @Label("Row")
+        int row;
+
+        @Label("Command")
+        String command;
+    }
+
+    @Name("com.jexunit.WorkbookLoad")
+    @Label("Workbook Load")
+    @Description("Reading (and parsing) an excel-file")
+    static final class WorkbookLoadEvent extends JExUnitEvent {
+    }
+
+    @Name("com.jexunit.SheetParse")
+    @Label("Sheet Parse")
+    @Description("Parsing a worksheet into test-cases")
+    static final class SheetParseEvent extends JExUnitEvent {
+    }
+
+    @Name("com.jexunit.CommandResolve")
+    @Label("Command Resolve")
+    @Description("Resolving the implementation of a test-command")
+    static final class CommandResolveEvent extends JExUnitEvent {
+    }
+
+    @Name("com.jexunit.ParameterBind")
+    @Label("Parameter Bind")
+    @Description("Binding the values of a test-case to the test-command")
+    static final class ParameterBindEvent extends JExUnitEvent {
+    }
+
+    @Name("com.jexunit.CommandInvoke")
+    @Label("Command Invoke")
+    @Description("Invoking a test-command")
+    static final class CommandInvokeEvent extends JExUnitEvent {
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.jexunit.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies (in nanoseconds) with a bounded number of buckets. The buckets are log-linear (32 buckets per
+ * power of two), so the percentiles are accurate to about 3% independent of the number of values recorded. Recording
+ * a value is lock-free.
+ *
+ * @author fabian
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // values below this are counted exactly
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int BUCKETS = LINEAR_LIMIT + (64 - 7) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Record the given latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucket(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Get the (exact) maximum of the latencies recorded.
+     *
+     * @return the maximum latency in nanoseconds
+     */
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Get the (approximated) percentile of the latencies recorded.
+     *
+     * @param percentile the percentile (0 - 100)
+     * @return the latency in nanoseconds (the upper bound of the bucket) or 0, if nothing is recorded
+     */
+    long getPercentile(final double percentile) {
+        long remaining = (long) Math.ceil(getCount() * percentile / 100.0);
+        for (int i = 0; i < BUCKETS; i++) {
+            remaining -= counts.get(i);
+            if (remaining <= 0 && counts.get(i) > 0) {
+                return upperBound(i);
+            }
+        }
+        return getCount() == 0 ? 0 : upperBound(highestBucket());
+    }
+
+    private int highestBucket() {
+        for (int i = BUCKETS - 1; i >= 0; i--) {
+            if (counts.get(i) > 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    static int bucket(final long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(final int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        final int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        final int subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        final long lowerBound = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+}
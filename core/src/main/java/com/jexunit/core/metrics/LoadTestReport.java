@@ -0,0 +1,174 @@
+package com.jexunit.core.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Results of a load test: the latencies, the number of errors and the throughput per test-command. The results are
+ * recorded concurrently by the (virtual) users and written as JSON (<i>jexunit-loadtest-[name].json</i>) and CSV
+ * (<i>jexunit-loadtest-[name].csv</i>).
+ *
+ * @author fabian
+ */
+public final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final String name;
+    private final int users;
+    private final ConcurrentMap<String, CommandResults> commands = new ConcurrentHashMap<>();
+    private volatile long elapsed;
+
+    /**
+     * Create the report for a load test.
+     *
+     * @param name  the name of the load test (for example the name of the test-class)
+     * @param users the number of (virtual) users
+     */
+    public LoadTestReport(final String name, final int users) {
+        this.name = name;
+        this.users = users;
+    }
+
+    /**
+     * Record the latency of a test-command.
+     *
+     * @param command the (normalized) name of the test-command
+     * @param nanos   the latency in nanoseconds
+     * @param failed  true, if the test-command failed
+     */
+    public void record(final String command, final long nanos, final boolean failed) {
+        CommandResults results = commands.get(command);
+        if (results == null) {
+            results = commands.computeIfAbsent(command, c -> new CommandResults());
+        }
+        results.latencies.record(nanos);
+        if (failed) {
+            results.errors.increment();
+        }
+    }
+
+    /**
+     * Set the duration of the whole load test (for computing the throughput).
+     *
+     * @param elapsed the duration in nanoseconds
+     */
+    public void setElapsed(final long elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Get the number of the test-commands run.
+     *
+     * @return the number of test-commands run (all commands)
+     */
+    public long getCount() {
+        long count = 0L;
+        for (final CommandResults results : commands.values()) {
+            count += results.latencies.getCount();
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of the test-commands failed.
+     *
+     * @return the number of errors (all commands)
+     */
+    public long getErrors() {
+        long errors = 0L;
+        for (final CommandResults results : commands.values()) {
+            errors += results.errors.sum();
+        }
+        return errors;
+    }
+
+    /**
+     * Write the report to the given directory.
+     *
+     * @param directory the directory to write the report to
+     * @return the JSON-file written
+     * @throws IOException in case that something goes wrong
+     */
+    public Path write(final Path directory) throws IOException {
+        Files.createDirectories(directory);
+        final String fileName = "jexunit-loadtest-" + name.replaceAll("[^A-Za-z0-9._-]", "_");
+        final Path json = directory.resolve(fileName + ".json");
+        try (final Writer writer = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+            writeJson(writer);
+        }
+        try (final Writer writer = Files.newBufferedWriter(directory.resolve(fileName + ".csv"),
+                StandardCharsets.UTF_8)) {
+            writeCsv(writer);
+        }
+        return json;
+    }
+
+    void writeJson(final Writer writer) throws IOException {
+        writer.write(String.format(Locale.ROOT, "{\n  \"name\": %s,\n  \"users\": %d,\n  \"durationMillis\": %.3f,"
+                + "\n  \"count\": %d,\n  \"errors\": %d,\n  \"throughputPerSecond\": %.3f,\n  \"commands\": {",
+                MetricsReport.quote(name), users, elapsed / 1e6, getCount(), getErrors(), throughput(getCount())));
+        String separator = "\n";
+        for (final Map.Entry<String, CommandResults> command : new TreeMap<>(commands).entrySet()) {
+            final LatencyHistogram latencies = command.getValue().latencies;
+            writer.write(separator);
+            writer.write(String.format(Locale.ROOT, "    %s: {\"count\": %d, \"errors\": %d, "
+                            + "\"throughputPerSecond\": %.3f", MetricsReport.quote(command.getKey()),
+                    latencies.getCount(), command.getValue().errors.sum(), throughput(latencies.getCount())));
+            for (final double percentile : PERCENTILES) {
+                writer.write(String.format(Locale.ROOT, ", \"p%dMicros\": %.3f", (int) percentile,
+                        latencies.getPercentile(percentile) / 1e3));
+            }
+            writer.write(String.format(Locale.ROOT, ", \"maxMicros\": %.3f}", latencies.getMax() / 1e3));
+            separator = ",\n";
+        }
+        writer.write("\n  }\n}\n");
+    }
+
+    void writeCsv(final Writer writer) throws IOException {
+        writer.write("command,count,errors,throughput_per_s");
+        for (final double percentile : PERCENTILES) {
+            writer.write(",p" + (int) percentile + "_us");
+        }
+        writer.write(",max_us\n");
+        for (final Map.Entry<String, CommandResults> command : new TreeMap<>(commands).entrySet()) {
+            final LatencyHistogram latencies = command.getValue().latencies;
+            writer.write(String.format(Locale.ROOT, "%s,%d,%d,%.3f", MetricsReport.csv(command.getKey()),
+                    latencies.getCount(), command.getValue().errors.sum(), throughput(latencies.getCount())));
+            for (final double percentile : PERCENTILES) {
+                writer.write(String.format(Locale.ROOT, ",%.3f", latencies.getPercentile(percentile) / 1e3));
+            }
+            writer.write(String.format(Locale.ROOT, ",%.3f\n", latencies.getMax() / 1e3));
+        }
+    }
+
+    private double throughput(final long count) {
+        return elapsed > 0 ? count / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)) : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s: %d users, %d commands (%d errors) in %.3f s, %.1f commands/s", name,
+                users, getCount(), getErrors(), elapsed / 1e9, throughput(getCount()));
+    }
+
+    /**
+     * The results of a single test-command.
+     */
+    private static final class CommandResults {
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+
+}
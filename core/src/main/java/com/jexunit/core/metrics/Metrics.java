@@ -0,0 +1,138 @@
+package com.jexunit.core.metrics;
+
+import com.jexunit.core.JExUnitConfig;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Low-overhead timers for the phases of a test run and the latencies of the test-commands. The metrics are collected
+ * for the whole run (JVM) and written to a report (see {@link MetricsReport}) at the end of each test-class.
+ * <p>
+ * The timers are only active, if enabled via the configuration
+ * ({@link com.jexunit.core.JExUnitConfig.ConfigKey#METRICS}). Otherwise {@link #start()} returns 0 and
+ * {@link #stop(Phase, long)} does nothing, so the instrumented code doesn't even read the clock.
+ * </p>
+ * <p>
+ * Usage:
+ * </p>
+ * <pre>
+ * final long start = Metrics.start();
+ * // the code to measure
+ * Metrics.stop(Phase.LOAD, start);
+ * </pre>
+ *
+ * @author fabian
+ */
+public final class Metrics {
+
+    // the configuration is read only once (see #reset())
+    private static volatile Boolean enabled;
+
+    private static final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+    private static final ConcurrentMap<String, LatencyHistogram> commands = new ConcurrentHashMap<>();
+
+    static {
+        for (final Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+    }
+
+    // Utility class, only static access
+    private Metrics() {
+    }
+
+    /**
+     * Check, if the metrics are enabled.
+     *
+     * @return true, if the metrics are enabled, else false
+     */
+    public static boolean isEnabled() {
+        Boolean e = enabled;
+        if (e == null) {
+            e = JExUnitConfig.getBooleanProperty(JExUnitConfig.ConfigKey.METRICS);
+            enabled = e;
+        }
+        return e;
+    }
+
+    /**
+     * Start a timer.
+     *
+     * @return the start time (in nanoseconds) or 0, if the metrics are disabled
+     */
+    public static long start() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Stop the timer and add the time elapsed to the given phase.
+     *
+     * @param phase the phase measured
+     * @param start the start time returned by {@link #start()}
+     * @return the time elapsed in nanoseconds (0, if the metrics are disabled)
+     */
+    public static long stop(final Phase phase, final long start) {
+        if (start == 0L) {
+            return 0L;
+        }
+        final long elapsed = System.nanoTime() - start;
+        phases.get(phase).record(elapsed);
+        return elapsed;
+    }
+
+    /**
+     * Record the latency of the given test-command.
+     *
+     * @param command the (normalized) name of the test-command
+     * @param start   the start time returned by {@link #start()}
+     */
+    public static void recordCommand(final String command, final long start) {
+        if (start == 0L || command == null) {
+            return;
+        }
+        recordCommandLatency(command, System.nanoTime() - start);
+    }
+
+    /**
+     * Record the latency of the given test-command measured by the caller (for example a single invocation of a
+     * micro-benchmark).
+     *
+     * @param command the (normalized) name of the test-command
+     * @param elapsed the latency in nanoseconds
+     */
+    public static void recordCommandLatency(final String command, final long elapsed) {
+        if (!isEnabled() || command == null) {
+            return;
+        }
+        LatencyHistogram histogram = commands.get(command);
+        if (histogram == null) {
+            histogram = commands.computeIfAbsent(command, c -> new LatencyHistogram());
+        }
+        histogram.record(elapsed);
+    }
+
+    /**
+     * Reset all the metrics collected and re-read the configuration.
+     */
+    public static synchronized void reset() {
+        enabled = null;
+        for (final Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+        commands.clear();
+    }
+
+    static Map<Phase, LatencyHistogram> getPhases() {
+        return Collections.unmodifiableMap(phases);
+    }
+
+    static Map<String, LatencyHistogram> getCommands() {
+        return new TreeMap<>(commands);
+    }
+
+}
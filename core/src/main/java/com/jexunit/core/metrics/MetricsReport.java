@@ -0,0 +1,133 @@
+package com.jexunit.core.metrics;
+
+import com.jexunit.core.JExUnitConfig;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Report of the {@link Metrics} collected. The report contains the totals per phase and the latency percentiles per
+ * test-command and is written as JSON (<i>jexunit-metrics.json</i>) and CSV (<i>jexunit-metrics.csv</i>) to the
+ * configured directory ({@link com.jexunit.core.JExUnitConfig.ConfigKey#METRICS_DIRECTORY}).
+ *
+ * @author fabian
+ */
+public final class MetricsReport {
+
+    private static final Logger LOG = Logger.getLogger(MetricsReport.class.getName());
+
+    static final String JSON_FILE = "jexunit-metrics.json";
+    static final String CSV_FILE = "jexunit-metrics.csv";
+
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    // Utility class, only static access
+    private MetricsReport() {
+    }
+
+    /**
+     * Write the report (if the metrics are enabled). The report contains all the metrics collected so far, so the
+     * report written last contains the whole run.
+     */
+    public static synchronized void write() {
+        if (!Metrics.isEnabled()) {
+            return;
+        }
+        final Path directory = Paths.get(JExUnitConfig.getStringProperty(JExUnitConfig.ConfigKey.METRICS_DIRECTORY));
+        try {
+            Files.createDirectories(directory);
+            try (final Writer writer = Files.newBufferedWriter(directory.resolve(JSON_FILE), StandardCharsets.UTF_8)) {
+                writeJson(writer);
+            }
+            try (final Writer writer = Files.newBufferedWriter(directory.resolve(CSV_FILE), StandardCharsets.UTF_8)) {
+                writeCsv(writer);
+            }
+        } catch (final IOException e) {
+            LOG.log(Level.WARNING, String.format("Error writing the metrics report to '%s'.", directory), e);
+        }
+    }
+
+    static void writeJson(final Writer writer) throws IOException {
+        writer.write("{\n  \"phases\": {");
+        String separator = "\n";
+        for (final Map.Entry<Phase, LatencyHistogram> phase : Metrics.getPhases().entrySet()) {
+            writer.write(separator);
+            writer.write("    " + quote(phase.getKey().getKey()) + ": ");
+            writeJson(writer, phase.getValue());
+            separator = ",\n";
+        }
+        writer.write("\n  },\n  \"commands\": {");
+        separator = "\n";
+        for (final Map.Entry<String, LatencyHistogram> command : Metrics.getCommands().entrySet()) {
+            writer.write(separator);
+            writer.write("    " + quote(command.getKey()) + ": ");
+            writeJson(writer, command.getValue());
+            separator = ",\n";
+        }
+        writer.write("\n  }\n}\n");
+    }
+
+    private static void writeJson(final Writer writer, final LatencyHistogram histogram) throws IOException {
+        writer.write(String.format(Locale.ROOT, "{\"count\": %d, \"totalMillis\": %.3f", histogram.getCount(),
+                histogram.getTotal() / 1e6));
+        for (final double percentile : PERCENTILES) {
+            writer.write(String.format(Locale.ROOT, ", \"p%dMicros\": %.3f", (int) percentile,
+                    histogram.getPercentile(percentile) / 1e3));
+        }
+        writer.write(String.format(Locale.ROOT, ", \"maxMicros\": %.3f}", histogram.getMax() / 1e3));
+    }
+
+    static void writeCsv(final Writer writer) throws IOException {
+        writer.write("type,name,count,total_ms");
+        for (final double percentile : PERCENTILES) {
+            writer.write(",p" + (int) percentile + "_us");
+        }
+        writer.write(",max_us\n");
+        for (final Map.Entry<Phase, LatencyHistogram> phase : Metrics.getPhases().entrySet()) {
+            writeCsv(writer, "phase", phase.getKey().getKey(), phase.getValue());
+        }
+        for (final Map.Entry<String, LatencyHistogram> command : Metrics.getCommands().entrySet()) {
+            writeCsv(writer, "command", command.getKey(), command.getValue());
+        }
+    }
+
+    private static void writeCsv(final Writer writer, final String type, final String name,
+                                 final LatencyHistogram histogram) throws IOException {
+        writer.write(String.format(Locale.ROOT, "%s,%s,%d,%.3f", type, csv(name), histogram.getCount(),
+                histogram.getTotal() / 1e6));
+        for (final double percentile : PERCENTILES) {
+            writer.write(String.format(Locale.ROOT, ",%.3f", histogram.getPercentile(percentile) / 1e3));
+        }
+        writer.write(String.format(Locale.ROOT, ",%.3f\n", histogram.getMax() / 1e3));
+    }
+
+    static String quote(final String value) {
+        final StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (final char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    static String csv(final String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.jexunit.core.metrics;
+
+/**
+ * The phases of a test run measured by the {@link Metrics}.
+ *
+ * @author fabian
+ */
+public enum Phase {
+
+    /**
+     * scanning the classpath for the test-commands
+     */
+    SCAN("scan"),
+    /**
+     * reading (and parsing) the excel-files
+     */
+    LOAD("load"),
+    /**
+     * validating the test-commands of the test-cases
+     */
+    VALIDATE("validate"),
+    /**
+     * binding the values of the test-cases to the parameters (and fields) of the test-commands
+     */
+    BIND("bind"),
+    /**
+     * invoking the test-commands
+     */
+    INVOKE("invoke");
+
+    private final String key;
+
+    Phase(final String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+}
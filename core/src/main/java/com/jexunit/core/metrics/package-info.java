@@ -0,0 +1,8 @@
+/**
+ * This package contains the (low-overhead) timers for the phases of a test run (scanning, loading, validating,
+ * binding and invoking the test-commands) and the report written at the end of the run.
+ * 
+ * @author fabian
+ *
+ */
+package com.jexunit.core.metrics;
@@ -0,0 +1,198 @@
+package com.jexunit.core.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+
+/**
+ * The (immutable) keys of the values of the test-cases, i.e. the header row of a command in the excel-file. All the
+ * test-cases sharing the same header share the same schema, so the keys (and the lookup of the keys) are held only
+ * once. The values of the single test-cases are held in an array indexed by the position of the key in the schema.
+ * <p>
+ * The schemas are interned, so equal headers (for example of different worksheets) will result in the same schema
+ * instance. The schemas are only held weakly, so the schemas not used by any test-case anymore will be released.
+ * </p>
+ *
+ * @author fabian
+ *
+ */
+public final class HeaderSchema {
+
+	private static final Map<List<String>, SchemaReference> schemas = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<HeaderSchema> releasedSchemas = new ReferenceQueue<>();
+
+	private final List<String> keys;
+	private final Map<String, Integer> index;
+	/**
+	 * the schemas without the key at the given position (created on first use)
+	 */
+	private final AtomicReferenceArray<HeaderSchema> without;
+	/**
+	 * the values derived from the keys (like the binding plans), per owner
+	 */
+	private final Map<Object, Object> derived = new ConcurrentHashMap<>();
+
+	private HeaderSchema(List<String> keys) {
+		this.keys = Collections.unmodifiableList(keys);
+		this.index = new HashMap<>(keys.size() * 2);
+		for (int i = 0; i < keys.size(); i++) {
+			index.put(keys.get(i), i);
+		}
+		this.without = new AtomicReferenceArray<>(keys.size());
+	}
+
+	/**
+	 * Get the (interned) schema for the given keys. Duplicate keys will be removed (the first occurrence defines the
+	 * position of the key).
+	 *
+	 * @param keys
+	 *            the keys of the values (in the order of the columns)
+	 * @return the schema for the given keys
+	 */
+	public static HeaderSchema of(List<String> keys) {
+		expungeReleasedSchemas();
+		final SchemaReference reference = schemas.get(keys);
+		HeaderSchema schema = reference != null ? reference.get() : null;
+		if (schema == null) {
+			final List<String> distinctKeys = new ArrayList<>(keys.size());
+			for (final String key : keys) {
+				if (!distinctKeys.contains(key)) {
+					distinctKeys.add(key);
+				}
+			}
+			final HeaderSchema created = new HeaderSchema(distinctKeys);
+			final List<String> internedKeys = new ArrayList<>(keys);
+			while (schema == null) {
+				final SchemaReference existing = schemas.putIfAbsent(internedKeys,
+						new SchemaReference(internedKeys, created, releasedSchemas));
+				if (existing == null) {
+					schema = created;
+				} else {
+					schema = existing.get();
+					if (schema == null) {
+						// released, but not expunged yet
+						schemas.remove(internedKeys, existing);
+					}
+				}
+			}
+		}
+		return schema;
+	}
+
+	private static void expungeReleasedSchemas() {
+		Reference<? extends HeaderSchema> reference;
+		while ((reference = releasedSchemas.poll()) != null) {
+			final SchemaReference released = (SchemaReference) reference;
+			schemas.remove(released.keys, released);
+		}
+	}
+
+	/**
+	 * Get the position of the given key.
+	 *
+	 * @param key
+	 *            the key to look up
+	 * @return the position of the key or -1, if the key is not part of the schema
+	 */
+	public int indexOf(Object key) {
+		final Integer i = index.get(key);
+		return i != null ? i : -1;
+	}
+
+	/**
+	 * Get the key at the given position.
+	 *
+	 * @param index
+	 *            the position of the key
+	 * @return the key
+	 */
+	public String getKey(int index) {
+		return keys.get(index);
+	}
+
+	/**
+	 * Get the keys of the schema.
+	 *
+	 * @return the (unmodifiable) keys in the order of the columns
+	 */
+	public List<String> getKeys() {
+		return keys;
+	}
+
+	/**
+	 * Get the schema without the key at the given position (for example after removing the parameters of the
+	 * framework from the values).
+	 *
+	 * @param index
+	 *            the position of the key to remove
+	 * @return the (interned) schema without the key
+	 */
+	public HeaderSchema without(int index) {
+		HeaderSchema schema = without.get(index);
+		if (schema == null) {
+			final List<String> remaining = new ArrayList<>(keys);
+			remaining.remove(index);
+			schema = of(remaining);
+			without.set(index, schema);
+		}
+		return schema;
+	}
+
+	/**
+	 * Get the value derived from the keys of the schema (like the plan for binding the values) for the given owner. The
+	 * value is created once per schema and owner and held as long as the schema, so the keys don't have to be copied
+	 * for looking up the value.
+	 *
+	 * @param owner
+	 *            the owner of the value (for example the class the values are bound to)
+	 * @param factory
+	 *            the factory for the value, called with the schema and the owner if there is no value yet
+	 * @param <K>
+	 *            the type of the owner
+	 * @param <V>
+	 *            the type of the value
+	 * @return the derived value
+	 */
+	@SuppressWarnings("unchecked")
+	public <K, V> V getDerived(K owner, BiFunction<HeaderSchema, ? super K, ? extends V> factory) {
+		Object value = derived.get(owner);
+		if (value == null) {
+			value = factory.apply(this, owner);
+			final Object existing = derived.putIfAbsent(owner, value);
+			if (existing != null) {
+				value = existing;
+			}
+		}
+		return (V) value;
+	}
+
+	/**
+	 * Get the number of the keys.
+	 *
+	 * @return the number of the keys
+	 */
+	public int size() {
+		return keys.size();
+	}
+
+	/**
+	 * Weak reference to an interned schema, holding the keys to remove the schema after it is released.
+	 */
+	private static final class SchemaReference extends WeakReference<HeaderSchema> {
+
+		private final List<String> keys;
+
+		SchemaReference(List<String> keys, HeaderSchema schema, ReferenceQueue<HeaderSchema> queue) {
+			super(schema, queue);
+			this.keys = keys;
+		}
+	}
+}
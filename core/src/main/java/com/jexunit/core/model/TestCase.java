@@ -17,6 +17,10 @@ public class TestCase<T extends Metadata> {
 	 * The "name" of the test command.
 	 */
 	private String testCommand;
+	/**
+	 * The normalized (lower case) "name" of the test command for looking up the command implementation.
+	 */
+	private String normalizedTestCommand;
 	/**
 	 * Metadata for additional information about the test instruction (like test group, identifier, and so on).
 	 */
@@ -24,7 +28,7 @@ public class TestCase<T extends Metadata> {
 	/**
 	 * The values for the test instruction (the test command).
 	 */
-	private Map<String, TestCell> values = new LinkedHashMap<String, TestCell>();
+	private Map<String, TestCell> values;
 
 	/**
 	 * Optional comment for the test case (out of the data file).
@@ -35,12 +39,60 @@ public class TestCase<T extends Metadata> {
 	private boolean exceptionExpected = false;
 	private Boolean fastFail = null;
 	private boolean breakpointEnabled = false;
+	private Long maxMillis = null;
+	private Integer repeat = null;
+	private Integer warmup = null;
+	private Double percentile = null;
+	private boolean barrier = false;
+	private String error = null;
 
 	public TestCase() {
+		this.values = new LinkedHashMap<String, TestCell>();
 	}
 
 	public TestCase(T metadata) {
 		this.metadata = metadata;
+		this.values = new LinkedHashMap<String, TestCell>();
+	}
+
+	/**
+	 * Constructor for test-cases sharing the header (the keys of the values) with other test-cases. The values will be
+	 * held in an array indexed by the position of the keys in the schema.
+	 * 
+	 * @param metadata
+	 *            the metadata of the test-case
+	 * @param schema
+	 *            the (shared) keys of the values
+	 */
+	public TestCase(T metadata, HeaderSchema schema) {
+		this.metadata = metadata;
+		this.values = new TestCaseValues(schema);
+	}
+
+	/**
+	 * Copy constructor. The values are copied (sharing the header schema of the given test-case, if any), so the copy
+	 * can be modified without affecting the given test-case. The cells and the metadata themselves are shared.
+	 * 
+	 * @param testCase
+	 *            the test-case to copy
+	 */
+	public TestCase(TestCase<T> testCase) {
+		this.testCommand = testCase.testCommand;
+		this.normalizedTestCommand = testCase.normalizedTestCommand;
+		this.metadata = testCase.metadata;
+		this.values = testCase.values instanceof TestCaseValues ? ((TestCaseValues) testCase.values).copy()
+				: new LinkedHashMap<String, TestCell>(testCase.values);
+		this.comment = testCase.comment;
+		this.disabled = testCase.disabled;
+		this.exceptionExpected = testCase.exceptionExpected;
+		this.fastFail = testCase.fastFail;
+		this.breakpointEnabled = testCase.breakpointEnabled;
+		this.maxMillis = testCase.maxMillis;
+		this.repeat = testCase.repeat;
+		this.warmup = testCase.warmup;
+		this.percentile = testCase.percentile;
+		this.barrier = testCase.barrier;
+		this.error = testCase.error;
 	}
 
 	/**
@@ -55,6 +107,28 @@ public class TestCase<T extends Metadata> {
 
 	public void setTestCommand(String testCommand) {
 		this.testCommand = testCommand;
+		this.normalizedTestCommand = normalizeCommandName(testCommand);
+	}
+
+	/**
+	 * Normalize the given command-name (as found in the test data) for looking up the command.
+	 * 
+	 * @param command
+	 *            the command-name
+	 * @return the normalized (lower case) command-name
+	 */
+	public static String normalizeCommandName(String command) {
+		return command != null ? command.toLowerCase() : null;
+	}
+
+	/**
+	 * Get the normalized test-command for the test-case. The name is normalized once on setting the test-command.
+	 * 
+	 * @return the normalized test-command
+	 * @see #normalizedTestCommand
+	 */
+	public String getNormalizedTestCommand() {
+		return normalizedTestCommand;
 	}
 
 	/**
@@ -86,6 +160,16 @@ public class TestCase<T extends Metadata> {
 		this.values = values;
 	}
 
+	/**
+	 * Get the (shared) header schema of the values. The schema identifies the layout of the values, so anything derived
+	 * from the keys can be cached per schema.
+	 * 
+	 * @return the schema or null, if the values are not backed by a schema or the keys don't match the schema (anymore)
+	 */
+	public HeaderSchema getSchema() {
+		return values instanceof TestCaseValues ? ((TestCaseValues) values).getSchema() : null;
+	}
+
 	/**
 	 * It's possible comment the test-command/-case in the data-file (excel file).
 	 * 
@@ -156,6 +240,87 @@ public class TestCase<T extends Metadata> {
 		this.breakpointEnabled = breakpointEnabled;
 	}
 
+	/**
+	 * Latency budget of the test command in milliseconds. If the test command takes longer, the test will fail.
+	 * 
+	 * @return the maximum duration of the test command in milliseconds or <code>null</code>, if not set (default)
+	 */
+	public Long getMaxMillis() {
+		return maxMillis;
+	}
+
+	public void setMaxMillis(Long maxMillis) {
+		this.maxMillis = maxMillis;
+	}
+
+	/**
+	 * Number of (measured) invocations of the test command, if the test command should run as micro-benchmark.
+	 * 
+	 * @return the number of invocations or <code>null</code>, if not set (default)
+	 */
+	public Integer getRepeat() {
+		return repeat;
+	}
+
+	public void setRepeat(Integer repeat) {
+		this.repeat = repeat;
+	}
+
+	/**
+	 * Number of (not measured) invocations of the test command before the measured ones (see {@link #getRepeat()}).
+	 * 
+	 * @return the number of warmup invocations or <code>null</code>, if not set (default)
+	 */
+	public Integer getWarmup() {
+		return warmup;
+	}
+
+	public void setWarmup(Integer warmup) {
+		this.warmup = warmup;
+	}
+
+	/**
+	 * Percentile of the latencies of the repeated invocations to check against the latency budget (see
+	 * {@link #getMaxMillis()}).
+	 * 
+	 * @return the percentile (0 - 100) or <code>null</code>, if not set (the configured percentile is used)
+	 */
+	public Double getPercentile() {
+		return percentile;
+	}
+
+	public void setPercentile(Double percentile) {
+		this.percentile = percentile;
+	}
+
+	/**
+	 * Ordering barrier for asynchronous test commands: the test command will not start before all the test commands of
+	 * the previous test-cases completed.
+	 * 
+	 * @return true, if the test-case is an ordering barrier, else false (default)
+	 */
+	public boolean isBarrier() {
+		return barrier;
+	}
+
+	public void setBarrier(boolean barrier) {
+		this.barrier = barrier;
+	}
+
+	/**
+	 * Error found on reading the test-case (like an invalid value of a default command). The test-case will fail with
+	 * this error instead of running the test command.
+	 * 
+	 * @return the error or <code>null</code>, if the test-case is valid (default)
+	 */
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+
 	/**
 	 * Get the String-representation for the test-case. This will return the test-group (for example the sheet-name),
 	 * because it's used for structured "description" of the JUnit test results.
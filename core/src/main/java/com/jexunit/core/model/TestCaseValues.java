@@ -0,0 +1,257 @@
+package com.jexunit.core.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The values of a test-case backed by an array, indexed by the position of the keys in the (shared)
+ * {@link HeaderSchema}. The map behaves like a {@link LinkedHashMap} (insertion order). If a value is put, that would
+ * change the order of the keys relative to the schema (or a key is not part of the schema), the values will be copied
+ * to a {@link LinkedHashMap}.
+ *
+ * @author fabian
+ *
+ */
+class TestCaseValues extends AbstractMap<String, TestCell> {
+
+	private HeaderSchema schema;
+	private TestCell[] cells;
+	private int size;
+	// the position of the last value put (values can only be appended in the order of the schema)
+	private int last = -1;
+
+	// the values, if they don't fit (anymore) to the schema
+	private Map<String, TestCell> map;
+
+	TestCaseValues(HeaderSchema schema) {
+		this.schema = schema;
+		this.cells = new TestCell[schema.size()];
+	}
+
+	/**
+	 * Copy the values, sharing the schema (and the cells).
+	 *
+	 * @return the copy of the values
+	 */
+	TestCaseValues copy() {
+		final TestCaseValues copy = new TestCaseValues(schema);
+		copy.putAll(this);
+		return copy;
+	}
+
+	/**
+	 * Get the schema, if the keys of the values are exactly the keys of the schema (in the same order).
+	 *
+	 * @return the schema or null, if the values don't match the schema (anymore)
+	 */
+	HeaderSchema getSchema() {
+		return map == null && size == schema.size() ? schema : null;
+	}
+
+	@Override
+	public int size() {
+		return map != null ? map.size() : size;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (map != null) {
+			return map.containsKey(key);
+		}
+		final int i = schema.indexOf(key);
+		return i >= 0 && cells[i] != null;
+	}
+
+	@Override
+	public TestCell get(Object key) {
+		if (map != null) {
+			return map.get(key);
+		}
+		final int i = schema.indexOf(key);
+		return i >= 0 ? cells[i] : null;
+	}
+
+	@Override
+	public TestCell put(String key, TestCell value) {
+		if (map == null && value != null) {
+			final int i = schema.indexOf(key);
+			if (i >= 0 && (cells[i] != null || i > last)) {
+				final TestCell old = cells[i];
+				if (old == null) {
+					size++;
+					last = i;
+				}
+				cells[i] = value;
+				return old;
+			}
+		}
+		return toMap().put(key, value);
+	}
+
+	@Override
+	public TestCell remove(Object key) {
+		if (map != null) {
+			return map.remove(key);
+		}
+		final int i = schema.indexOf(key);
+		if (i < 0 || cells[i] == null) {
+			return null;
+		}
+		// switch to the schema without the key (shared by all the test-cases of the schema), so the values still
+		// match a schema after removing a column (like the parameters of the framework)
+		final TestCell old = cells[i];
+		final int length = schema.size();
+		System.arraycopy(cells, i + 1, cells, i, length - i - 1);
+		cells[length - 1] = null;
+		schema = schema.without(i);
+		size--;
+		if (last >= i) {
+			last--;
+		}
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		if (map != null) {
+			map.clear();
+		} else {
+			cells = new TestCell[schema.size()];
+			size = 0;
+			last = -1;
+		}
+	}
+
+	@Override
+	public Set<Entry<String, TestCell>> entrySet() {
+		if (map != null) {
+			return map.entrySet();
+		}
+		return new EntrySet();
+	}
+
+	private TestCell removeAt(int i) {
+		final TestCell old = cells[i];
+		cells[i] = null;
+		size--;
+		return old;
+	}
+
+	/**
+	 * Copy the values to a {@link LinkedHashMap}, so all the operations of a map are supported.
+	 */
+	private Map<String, TestCell> toMap() {
+		if (map == null) {
+			final Map<String, TestCell> copy = new LinkedHashMap<>();
+			for (int i = 0; i < schema.size(); i++) {
+				if (cells[i] != null) {
+					copy.put(schema.getKey(i), cells[i]);
+				}
+			}
+			map = copy;
+			cells = null;
+		}
+		return map;
+	}
+
+	private class EntrySet extends AbstractSet<Entry<String, TestCell>> {
+
+		@Override
+		public int size() {
+			return TestCaseValues.this.size();
+		}
+
+		@Override
+		public Iterator<Entry<String, TestCell>> iterator() {
+			if (map != null) {
+				return map.entrySet().iterator();
+			}
+			return new Iterator<Entry<String, TestCell>>() {
+
+				private int next = advance(0);
+				private int current = -1;
+
+				private int advance(int from) {
+					int i = from;
+					while (cells != null && i < schema.size() && cells[i] == null) {
+						i++;
+					}
+					return i;
+				}
+
+				@Override
+				public boolean hasNext() {
+					return map == null && next < schema.size();
+				}
+
+				@Override
+				public Entry<String, TestCell> next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					current = next;
+					next = advance(next + 1);
+					return new CellEntry(current);
+				}
+
+				@Override
+				public void remove() {
+					if (current < 0 || map != null || cells[current] == null) {
+						throw new IllegalStateException();
+					}
+					removeAt(current);
+					current = -1;
+				}
+			};
+		}
+	}
+
+	private class CellEntry implements Entry<String, TestCell> {
+
+		private final int index;
+
+		CellEntry(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public String getKey() {
+			return schema.getKey(index);
+		}
+
+		@Override
+		public TestCell getValue() {
+			return map != null ? map.get(getKey()) : cells[index];
+		}
+
+		@Override
+		public TestCell setValue(TestCell value) {
+			return put(getKey(), value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+			final Entry<?, ?> e = (Entry<?, ?>) o;
+			return eq(getKey(), e.getKey()) && eq(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			final String key = getKey();
+			final TestCell value = getValue();
+			return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+		}
+
+		private boolean eq(Object a, Object b) {
+			return a == null ? b == null : a.equals(b);
+		}
+	}
+}
@@ -1,17 +1,28 @@
 package com.jexunit.core.model;
 
+import com.jexunit.core.JExUnitConfig;
 import com.jexunit.core.dataprovider.ExcelLoader;
 
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
 /**
  * The "entity" for a single cell. It consists of the value and the column (number).
+ * <p>
+ * The value is kept in the type read from the data file (<code>Double</code>, <code>Boolean</code>, <code>Date</code>
+ * or <code>String</code>), so it can be converted without parsing it again. The String view of the value is derived
+ * lazily.
+ * </p>
  * 
  * @author fabian
  * 
  */
 public class TestCell {
 
-	// the cells value
+	// the cells value (as string, derived lazily out of the typed value)
 	private String value;
+	// the cells value as read from the data file
+	private Object typedValue;
 
 	private int column;
 
@@ -32,6 +43,23 @@ public class TestCell {
 	public TestCell(int column, String value) {
 		this.column = column;
 		this.value = value;
+		this.typedValue = value;
+	}
+
+	/**
+	 * Constructor setting the column number and the typed value.
+	 * 
+	 * @param column
+	 *            the number representing the column
+	 * @param typedValue
+	 *            the cells value (<code>Double</code>, <code>Boolean</code>, <code>Date</code> or <code>String</code>)
+	 */
+	public TestCell(int column, Object typedValue) {
+		this.column = column;
+		this.typedValue = typedValue;
+		if (typedValue instanceof String) {
+			this.value = (String) typedValue;
+		}
 	}
 
 	/**
@@ -40,11 +68,44 @@ public class TestCell {
 	 * @return the value of the cell
 	 */
 	public String getValue() {
+		if (value == null && typedValue != null) {
+			value = asString(typedValue);
+		}
 		return value;
 	}
 
 	public void setvalue(String value) {
 		this.value = value;
+		this.typedValue = value;
+	}
+
+	/**
+	 * Get the cells value in the type read from the data file.
+	 * 
+	 * @return the typed value of the cell (<code>Double</code>, <code>Boolean</code>, <code>Date</code> or
+	 *         <code>String</code>)
+	 */
+	public Object getTypedValue() {
+		return typedValue;
+	}
+
+	/**
+	 * Get the String view of the given typed value. Numbers and booleans are represented like
+	 * {@link String#valueOf(Object)}, dates are formatted with the configured date-pattern.
+	 * 
+	 * @param typedValue
+	 *            the typed value
+	 * @return the value as string
+	 */
+	public static String asString(Object typedValue) {
+		if (typedValue == null || typedValue instanceof String) {
+			return (String) typedValue;
+		}
+		if (typedValue instanceof Date) {
+			return new SimpleDateFormat(JExUnitConfig.getStringProperty(JExUnitConfig.ConfigKey.DATE_PATTERN))
+					.format((Date) typedValue);
+		}
+		return String.valueOf(typedValue);
 	}
 
 	/**
@@ -57,6 +118,15 @@ public class TestCell {
 		return ExcelLoader.getColumn(column);
 	}
 
+	/**
+	 * Get the number of the column (starting with 1 for the column A).
+	 * 
+	 * @return the number of the column
+	 */
+	public int getColumnNumber() {
+		return column;
+	}
+
 	public void setColumn(int column) {
 		this.column = column;
 	}
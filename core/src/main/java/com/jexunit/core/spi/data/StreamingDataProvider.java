@@ -0,0 +1,32 @@
+package com.jexunit.core.spi.data;
+
+/**
+ * Extension of the {@link DataProvider} interface for data providers, that are able to stream the test data test group
+ * by test group. In contrast to {@link #loadTestData(int)}, the test data doesn't have to be materialized completely.
+ * So the execution of the test can start as soon as the first test group is read and only the test group currently
+ * running has to be held in memory.
+ *
+ * @author fabian
+ */
+public interface StreamingDataProvider extends DataProvider {
+
+    /**
+     * Check, if the test data of the test with the given number can be streamed. If not, the test data will be loaded
+     * via {@link #loadTestData(int)}.
+     *
+     * @param test the number of the test
+     * @return true, if the test data can be streamed, else false
+     */
+    boolean isStreamable(final int test);
+
+    /**
+     * Open a cursor over the test groups of the test with the given number. Each test group has to be a list of type
+     * {@link com.jexunit.core.model.TestCase}. The caller is responsible for closing the cursor.
+     *
+     * @param test the number of the test to open the cursor for
+     * @return the cursor over the test groups
+     * @throws Exception if something went wrong
+     */
+    TestDataCursor openTestData(final int test) throws Exception;
+
+}
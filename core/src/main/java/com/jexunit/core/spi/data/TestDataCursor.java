@@ -0,0 +1,47 @@
+package com.jexunit.core.spi.data;
+
+import com.jexunit.core.model.TestCase;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * Pull-based cursor over the test groups of a test (i.e. the worksheets of an excel-file). The test groups will be
+ * loaded one after another, so only the test group currently read has to be held in memory.
+ *
+ * @author fabian
+ * @see StreamingDataProvider
+ */
+public interface TestDataCursor extends Closeable {
+
+    /**
+     * Check, if there are more test groups to read.
+     *
+     * @return true, if there is another test group, else false
+     */
+    boolean hasNext();
+
+    /**
+     * Get the name of the next test group without loading its test data.
+     *
+     * @return the name of the next test group
+     * @throws Exception if something went wrong
+     */
+    String getNextTestGroup() throws Exception;
+
+    /**
+     * Load the test data of the next test group and move the cursor forward.
+     *
+     * @return the list of TestCases of the next test group
+     * @throws Exception if something went wrong
+     */
+    List<TestCase<?>> next() throws Exception;
+
+    /**
+     * Skip the next test group without loading its test data.
+     *
+     * @throws Exception if something went wrong
+     */
+    void skip() throws Exception;
+
+}
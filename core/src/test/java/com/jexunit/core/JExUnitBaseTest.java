@@ -0,0 +1,247 @@
+package com.jexunit.core;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.rules.ErrorCollector;
+
+import com.jexunit.core.commands.TestCommandScanner;
+import com.jexunit.core.commands.annotation.TestCommand;
+import com.jexunit.core.commands.annotation.TestParam;
+import com.jexunit.core.dataprovider.ExcelMetadata;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+
+public class JExUnitBaseTest {
+
+	private static final AtomicInteger running = new AtomicInteger();
+	private static final AtomicInteger maxRunning = new AtomicInteger();
+	private static final Map<String, Integer> runningOnStart = new ConcurrentHashMap<>();
+	private static final List<CompletableFuture<Void>> pendingFutures = Collections
+			.synchronizedList(new ArrayList<>());
+
+	public static class AsyncCommands {
+
+		@TestCommand("BaseAsyncCommand")
+		public static CompletableFuture<Void> async(@TestParam("name") final String name,
+				@TestParam("millis") final long millis) {
+			runningOnStart.put(name, running.get());
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			return CompletableFuture.runAsync(() -> {
+				try {
+					TimeUnit.MILLISECONDS.sleep(millis);
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				running.decrementAndGet();
+				if (name.startsWith("fail")) {
+					throw new AssertionError(name);
+				}
+			});
+		}
+	}
+
+	public static class PendingCommands {
+
+		@TestCommand("BasePendingCommand")
+		public static CompletableFuture<Void> pending() {
+			final CompletableFuture<Void> future = new CompletableFuture<>();
+			pendingFutures.add(future);
+			return future;
+		}
+
+		@TestCommand("BaseFailingCommand")
+		public static CompletableFuture<Void> failing() {
+			final CompletableFuture<Void> future = new CompletableFuture<>();
+			future.completeExceptionally(new IllegalStateException("failing"));
+			return future;
+		}
+	}
+
+	public static class SleepCommands {
+
+		@TestCommand("BaseSleepCommand")
+		public static void sleep(@TestParam("millis") final long millis) throws InterruptedException {
+			TimeUnit.MILLISECONDS.sleep(millis);
+		}
+	}
+
+	@BeforeClass
+	public static void scan() throws Exception {
+		TestCommandScanner.scan();
+	}
+
+	@After
+	public void resetConfig() {
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.ASYNC_MAX_IN_FLIGHT.getKey(),
+				JExUnitConfig.ConfigKey.ASYNC_MAX_IN_FLIGHT.getDefaultConfig());
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.ASYNC_TIMEOUT.getKey(),
+				JExUnitConfig.ConfigKey.ASYNC_TIMEOUT.getDefaultConfig());
+	}
+
+	@Test
+	public void test_asyncCommandsInFlight() {
+		final JExUnitBase test = new JExUnitBase();
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.ASYNC_MAX_IN_FLIGHT.getKey(), "2");
+		final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+		test.errorCollector = new ErrorCollector() {
+
+			@Override
+			public void addError(final Throwable error) {
+				errors.add(error);
+			}
+		};
+		final TestCase<?> barrier = testCase(5, "barrier", 10);
+		barrier.setBarrier(true);
+		test.testCases = Arrays.asList(testCase(1, "first", 50), testCase(2, "fail-slow", 100),
+				testCase(3, "fail-fast", 10), testCase(4, "third", 10), barrier);
+
+		test.test();
+
+		assertThat(maxRunning.get(), is(2));
+		assertThat(runningOnStart.get("barrier"), is(0));
+		// the failures are reported in the order of the rows
+		assertThat(errors.size(), is(2));
+		assertThat(errors.get(0).getMessage(), containsString("row: 2"));
+		assertThat(errors.get(1).getMessage(), containsString("row: 3"));
+	}
+
+	@Test
+	public void test_asyncCommandTimeout() {
+		final JExUnitBase test = new JExUnitBase();
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.ASYNC_TIMEOUT.getKey(), "1");
+		final List<Throwable> errors = new ArrayList<>();
+		test.errorCollector = new ErrorCollector() {
+
+			@Override
+			public void addError(final Throwable error) {
+				errors.add(error);
+			}
+		};
+		final TestCase<ExcelMetadata> pending = new TestCase<>(new ExcelMetadata());
+		pending.getMetadata().setSheet("sheet");
+		pending.getMetadata().setRow(1);
+		pending.setTestCommand("BasePendingCommand");
+		test.testCases = Arrays.asList(pending, sleepTestCase(2, 0));
+
+		test.test();
+
+		assertThat(errors.size(), is(1));
+		assertThat(errors.get(0).getMessage(), containsString("did not complete within 1 s"));
+		assertThat(errors.get(0).getMessage(), containsString("row: 1"));
+	}
+
+	@Test
+	public void test_asyncCommandsCancelledOnFailure() {
+		final JExUnitBase test = new JExUnitBase();
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.ASYNC_MAX_IN_FLIGHT.getKey(), "2");
+		test.errorCollector = new ErrorCollector();
+		final TestCase<ExcelMetadata> failing = new TestCase<>(new ExcelMetadata());
+		failing.getMetadata().setSheet("sheet");
+		failing.getMetadata().setRow(1);
+		failing.setTestCommand("BaseFailingCommand");
+		final TestCase<ExcelMetadata> pending = new TestCase<>(new ExcelMetadata());
+		pending.getMetadata().setSheet("sheet");
+		pending.getMetadata().setRow(2);
+		pending.setTestCommand("BasePendingCommand");
+		test.testCases = Arrays.asList(failing, pending, sleepTestCase(3, 0));
+		pendingFutures.clear();
+
+		try {
+			test.test();
+			fail("the failing asynchronous command has to fail the test sheet");
+		} catch (final AssertionError e) {
+			assertThat(e.getMessage(), containsString("row: 1"));
+		}
+
+		// the command still in flight behind the failing one is cancelled, not left running
+		assertThat(pendingFutures.size(), is(1));
+		assertThat(pendingFutures.get(0).isCancelled(), is(true));
+	}
+
+	@Test
+	public void test_latencyBudget() {
+		final JExUnitBase test = new JExUnitBase();
+		final List<Throwable> errors = new ArrayList<>();
+		test.errorCollector = new ErrorCollector() {
+
+			@Override
+			public void addError(final Throwable error) {
+				errors.add(error);
+			}
+		};
+		final TestCase<?> slow = sleepTestCase(1, 100);
+		slow.setMaxMillis(10L);
+		final TestCase<?> fast = sleepTestCase(2, 0);
+		fast.setMaxMillis(5000L);
+		test.testCases = Arrays.asList(slow, fast);
+
+		test.test();
+
+		assertThat(errors.size(), is(1));
+		assertThat(errors.get(0).getMessage(), containsString("Latency budget exceeded"));
+		assertThat(errors.get(0).getMessage(), containsString("row: 1"));
+	}
+
+	@Test
+	public void test_invalidTestCase() {
+		final JExUnitBase test = new JExUnitBase();
+		final List<Throwable> errors = new ArrayList<>();
+		test.errorCollector = new ErrorCollector() {
+
+			@Override
+			public void addError(final Throwable error) {
+				errors.add(error);
+			}
+		};
+		final TestCase<?> invalid = sleepTestCase(1, 0);
+		invalid.setError("Invalid value for maxMillis (no number): abc");
+		final TestCase<?> slow = sleepTestCase(2, 100);
+		slow.setMaxMillis(10L);
+		test.testCases = Arrays.asList(invalid, slow);
+
+		test.test();
+
+		// only the invalid test-case fails, the following test-cases still run
+		assertThat(errors.size(), is(2));
+		assertThat(errors.get(0).getMessage(), containsString("worksheet: sheet, row: 1"));
+		assertThat(errors.get(0).getMessage(), containsString("maxMillis (no number): abc"));
+		assertThat(errors.get(1).getMessage(), containsString("Latency budget exceeded"));
+		assertThat(errors.get(1).getMessage(), containsString("row: 2"));
+	}
+
+	private static TestCase<ExcelMetadata> sleepTestCase(final int row, final long millis) {
+		final TestCase<ExcelMetadata> testCase = new TestCase<>(new ExcelMetadata());
+		testCase.getMetadata().setSheet("sheet");
+		testCase.getMetadata().setRow(row);
+		testCase.setTestCommand("BaseSleepCommand");
+		testCase.getValues().put("millis", new TestCell(1, String.valueOf(millis)));
+		return testCase;
+	}
+
+	private static TestCase<ExcelMetadata> testCase(final int row, final String name, final long millis) {
+		final TestCase<ExcelMetadata> testCase = new TestCase<>(new ExcelMetadata());
+		testCase.getMetadata().setSheet("sheet");
+		testCase.getMetadata().setRow(row);
+		testCase.setTestCommand("BaseAsyncCommand");
+		testCase.getValues().put("name", new TestCell(1, name));
+		testCase.getValues().put("millis", new TestCell(2, String.valueOf(millis)));
+		return testCase;
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.jexunit.core.commands;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Test;
+
+public class CommandInvokerTest {
+
+	public static class Commands {
+
+		private static String staticValue;
+		private long sum;
+
+		public static void staticCommand(final String value) {
+			staticValue = value;
+		}
+
+		public void add(final long value, final Integer other) {
+			sum += value + (other != null ? other : 0);
+		}
+
+		public void failing() {
+			throw new AssertionError("failed");
+		}
+	}
+
+	@Test
+	public void invoke_staticMethod() throws Exception {
+		new CommandInvoker(Commands.class.getMethod("staticCommand", String.class)).invoke(null, "static");
+
+		assertThat(Commands.staticValue, is(equalTo("static")));
+	}
+
+	@Test
+	public void invoke_instanceMethodWithPrimitiveParameters() throws Exception {
+		final Commands commands = new Commands();
+		final CommandInvoker invoker = new CommandInvoker(Commands.class.getMethod("add", long.class, Integer.class));
+
+		invoker.invoke(commands, 5L, 1);
+		// widening conversion (int to long) like reflection
+		invoker.invoke(commands, 2, null);
+
+		assertThat(commands.sum, is(equalTo(8L)));
+	}
+
+	@Test
+	public void invoke_exceptionIsWrapped() throws Exception {
+		try {
+			new CommandInvoker(Commands.class.getMethod("failing")).invoke(new Commands());
+			fail("InvocationTargetException expected");
+		} catch (final InvocationTargetException e) {
+			assertThat(e.getTargetException(), is(instanceOf(AssertionError.class)));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invoke_argumentTypeMismatch() throws Exception {
+		new CommandInvoker(Commands.class.getMethod("add", long.class, Integer.class)).invoke(new Commands(), "5",
+				null);
+	}
+
+}
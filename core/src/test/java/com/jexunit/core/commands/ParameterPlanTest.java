@@ -0,0 +1,105 @@
+package com.jexunit.core.commands;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.commands.annotation.TestParam;
+import com.jexunit.core.data.entity.TestModelSub;
+import com.jexunit.core.model.HeaderSchema;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+
+public class ParameterPlanTest {
+
+	public static class Commands {
+
+		public void command(final TestCase<?> testCase, @TestParam("INTATTR") final long id,
+				@TestParam(value = "name", required = false) final String name, final TestModelSub entity) {
+		}
+	}
+
+	@Test
+	public void resolveParameters() throws Exception {
+		final ParameterPlan plan = new ParameterPlan(Commands.class.getMethod("command", TestCase.class, long.class,
+				String.class, TestModelSub.class), null);
+
+		final TestCase<?> testCase = new TestCase<>();
+		testCase.getValues().put("intAttr", new TestCell(1, "38"));
+		testCase.getValues().put("stringAttr", new TestCell(2, "test"));
+
+		final Object[] parameters = plan.resolveParameters(testCase);
+
+		assertThat(parameters.length, is(4));
+		assertThat(parameters[0], is(sameInstance((Object) testCase)));
+		assertThat(parameters[1], is(equalTo((Object) 38L)));
+		assertThat(parameters[2], is(equalTo(null)));
+		assertThat(((TestModelSub) parameters[3]).getIntAttr(), is(38));
+		assertThat(((TestModelSub) parameters[3]).getStringAttr(), is(equalTo("test")));
+	}
+
+	@Test
+	public void resolveParameters_schemaBacked() throws Exception {
+		final ParameterPlan plan = new ParameterPlan(Commands.class.getMethod("command", TestCase.class, long.class,
+				String.class, TestModelSub.class), null);
+
+		final HeaderSchema schema = HeaderSchema.of(Arrays.asList("intAttr", "stringAttr"));
+		for (final String id : Arrays.asList("1", "2")) {
+			final TestCase<?> testCase = new TestCase<>(null, schema);
+			testCase.getValues().put("intAttr", new TestCell(1, id));
+			testCase.getValues().put("stringAttr", new TestCell(2, "test" + id));
+
+			final Object[] parameters = plan.resolveParameters(testCase);
+
+			assertThat(parameters[1], is(equalTo((Object) Long.valueOf(id))));
+			assertThat(parameters[2], is(equalTo(null)));
+			assertThat(((TestModelSub) parameters[3]).getStringAttr(), is(equalTo("test" + id)));
+		}
+	}
+
+	@Test
+	public void resolveParameters_schemaBackedAfterRemovingFrameworkColumns() throws Exception {
+		final ParameterPlan plan = new ParameterPlan(Commands.class.getMethod("command", TestCase.class, long.class,
+				String.class, TestModelSub.class), null);
+
+		final TestCase<?> testCase = new TestCase<>(null,
+				HeaderSchema.of(Arrays.asList("comment", "intAttr", "disabled", "stringAttr")));
+		testCase.getValues().put("comment", new TestCell(1, "some comment"));
+		testCase.getValues().put("intAttr", new TestCell(2, "38"));
+		testCase.getValues().put("disabled", new TestCell(3, "false"));
+		testCase.getValues().put("stringAttr", new TestCell(4, "test"));
+		// like the runner does before invoking the test command
+		testCase.getValues().remove(JExUnitConfig.getDefaultCommandProperty(DefaultCommands.COMMENT));
+		testCase.getValues().remove(JExUnitConfig.getDefaultCommandProperty(DefaultCommands.DISABLED));
+
+		final Object[] parameters = plan.resolveParameters(testCase);
+
+		final HeaderSchema schema = testCase.getSchema();
+		assertThat(schema, is(sameInstance(HeaderSchema.of(Arrays.asList("intAttr", "stringAttr")))));
+		// the keys have to be resolved against the framework-free schema by resolving the parameters
+		final String[] keys = schema.getDerived(plan, (s, p) -> {
+			throw new AssertionError("the keys weren't resolved via the schema");
+		});
+		assertThat(keys, is(equalTo(new String[] { "intAttr", null })));
+		assertThat(parameters[1], is(equalTo((Object) 38L)));
+		assertThat(((TestModelSub) parameters[3]).getStringAttr(), is(equalTo("test")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void resolveParameters_requiredParameterMissing() throws Exception {
+		final ParameterPlan plan = new ParameterPlan(Commands.class.getMethod("command", TestCase.class, long.class,
+				String.class, TestModelSub.class), null);
+
+		final TestCase<?> testCase = new TestCase<>();
+		testCase.getValues().put("name", new TestCell(1, "test"));
+
+		plan.resolveParameters(testCase);
+	}
+
+}
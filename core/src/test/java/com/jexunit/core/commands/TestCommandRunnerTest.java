@@ -0,0 +1,197 @@
+package com.jexunit.core.commands;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.jexunit.core.JExUnitBase;
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.commands.annotation.TestCommand;
+import com.jexunit.core.commands.annotation.TestParam;
+import com.jexunit.core.context.TestContext;
+import com.jexunit.core.context.TestContextManager;
+import com.jexunit.core.metrics.Metrics;
+import com.jexunit.core.metrics.MetricsReport;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+
+public class TestCommandRunnerTest {
+
+	private static final List<List<String>> batches = new ArrayList<>();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	public static class BatchCommands {
+
+		@TestCommand(value = "RunnerBatchCommand", batch = true)
+		public static void batch(@TestParam("name") final List<String> names, final List<TestCase<?>> testCases,
+				final TestContext context) throws BatchException {
+			assertThat(context, is(sameInstance(TestContextManager.getTestContext())));
+			assertThat(testCases.size(), is(names.size()));
+			batches.add(names);
+			final BatchException e = new BatchException();
+			for (int i = 0; i < names.size(); i++) {
+				if ("fail".equals(names.get(i))) {
+					e.addFailure(i, new AssertionError("failed"));
+				}
+			}
+			if (e.hasFailures()) {
+				throw e;
+			}
+		}
+	}
+
+	public static class CountingTest extends JExUnitBase {
+
+		private int invocations;
+
+		@Override
+		public void runCommand(final TestCase<?> testCase) throws Exception {
+			invocations++;
+		}
+	}
+
+	private static final CompletableFuture<String> asyncResult = new CompletableFuture<>();
+
+	public static class AsyncCommands {
+
+		@TestCommand("RunnerAsyncCommand")
+		public static CompletableFuture<String> async() {
+			return asyncResult;
+		}
+	}
+
+	@BeforeClass
+	public static void scan() throws Exception {
+		TestCommandScanner.scan();
+	}
+
+	@Test
+	public void runBatchTestCommand_failuresPerTestCase() throws Exception {
+		batches.clear();
+		final List<TestCase<?>> testCases = Arrays.asList(batchTestCase("first"), batchTestCase(null),
+				batchTestCase("fail"), batchTestCase("last"));
+		final TestCommandRunner runner = new TestCommandRunner(new CountingTest());
+
+		assertThat(runner.isBatchCommand(testCases.get(0)), is(true));
+		final List<Throwable> failures = runner.runBatchTestCommand(testCases);
+
+		// invoked once for all the bound test-cases
+		assertThat(batches.size(), is(1));
+		assertThat(batches.get(0), is(equalTo(Arrays.asList("first", "fail", "last"))));
+		assertThat(failures.get(0), is(nullValue()));
+		// the required parameter is missing
+		assertThat(failures.get(1), is(instanceOf(IllegalArgumentException.class)));
+		assertThat(failures.get(2), is(instanceOf(AssertionError.class)));
+		assertThat(failures.get(3), is(nullValue()));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void runTestCommand_batchCommandForSingleTestCase() throws Exception {
+		batches.clear();
+		try {
+			new TestCommandRunner(new CountingTest()).runTestCommand(batchTestCase("fail"));
+		} finally {
+			assertThat(batches.size(), is(1));
+		}
+	}
+
+	@Test
+	public void startTestCommand_notWaitingForCompletion() throws Exception {
+		final TestCase<?> testCase = new TestCase<>();
+		testCase.setTestCommand("RunnerAsyncCommand");
+		final TestCommandRunner runner = new TestCommandRunner(new CountingTest());
+
+		assertThat(runner.isAsyncCommand(testCase), is(true));
+		assertThat(runner.isAsyncCommand(batchTestCase("first")), is(false));
+		final CompletableFuture<?> future = runner.startTestCommand(testCase);
+		assertThat(future.isDone(), is(false));
+
+		asyncResult.completeExceptionally(new AssertionError("failed"));
+		try {
+			future.get();
+		} catch (final ExecutionException e) {
+			assertThat(e.getCause(), is(instanceOf(AssertionError.class)));
+			return;
+		}
+		throw new AssertionError("failure of the asynchronous command expected");
+	}
+
+	private static TestCase<?> batchTestCase(final String name) {
+		final TestCase<?> testCase = new TestCase<>();
+		testCase.setTestCommand("RunnerBatchCommand");
+		if (name != null) {
+			testCase.getValues().put("name", new TestCell(1, name));
+		}
+		return testCase;
+	}
+
+	@Test
+	public void runBenchmark_warmupAndRepeat() throws Exception {
+		final CountingTest test = new CountingTest();
+		final TestCase<?> testCase = new TestCase<>();
+		testCase.setTestCommand("not implemented by a test-command");
+		testCase.getValues().put("repeat", new TestCell(2, "20"));
+		testCase.setRepeat(20);
+		testCase.setWarmup(5);
+
+		final Path directory = folder.getRoot().toPath();
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.METRICS.getKey(), "true");
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.METRICS_DIRECTORY.getKey(), directory.toString());
+		Metrics.reset();
+		try {
+			final BenchmarkResult result = new TestCommandRunner(test).runBenchmark(testCase);
+
+			assertThat(test.invocations, is(25));
+			assertThat(result.getIterations(), is(20));
+			// the framework parameters are not passed to the command
+			assertThat(testCase.getValues().containsKey("repeat"), is(false));
+
+			// each measured invocation is a sample of the command, the warmup is not recorded
+			MetricsReport.write();
+			final String json = new String(Files.readAllBytes(directory.resolve("jexunit-metrics.json")),
+					StandardCharsets.UTF_8);
+			assertThat(json, containsString("\"not implemented by a test-command\": {\"count\": 20,"));
+		} finally {
+			JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.METRICS.getKey(), "false");
+			JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.METRICS_DIRECTORY.getKey(), "target");
+			Metrics.reset();
+		}
+	}
+
+	@Test
+	public void benchmarkResult_percentiles() {
+		final long[] latencies = new long[100];
+		for (int i = 0; i < latencies.length; i++) {
+			// unordered
+			latencies[i] = (i * 37 % 100 + 1) * 1000L;
+		}
+		final BenchmarkResult result = new BenchmarkResult(latencies);
+
+		assertThat(result.getPercentile(50), is(50000L));
+		assertThat(result.getPercentile(99), is(99000L));
+		assertThat(result.getPercentile(100), is(100000L));
+		assertThat(result.getPercentile(0), is(1000L));
+		assertThat(result.getMean(), is(50500L));
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.jexunit.core.commands;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Map;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.jexunit.core.commands.annotation.TestCommand;
+import com.jexunit.core.model.TestCase;
+
+public class TestCommandScannerTest {
+
+	public static class Commands {
+
+		@TestCommand("ScannerTableCommand")
+		public static void tableCommand() {
+		}
+	}
+
+	@BeforeClass
+	public static void scan() throws Exception {
+		TestCommandScanner.scan();
+	}
+
+	@Test
+	public void getCommandTable_resolvedOncePerType() {
+		final Map<String, Command> table = TestCommandScanner.getCommandTable(TestCommandScannerTest.class);
+
+		assertThat(table.get("scannertablecommand"), is(notNullValue()));
+		assertThat(TestCommandScanner.getCommandTable(TestCommandScannerTest.class), is(sameInstance(table)));
+		assertThat(TestCommandScanner.getCommandTable(null).get("scannertablecommand"),
+				is(sameInstance(table.get("scannertablecommand"))));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void getCommandTable_immutable() {
+		TestCommandScanner.getCommandTable(null).clear();
+	}
+
+	@Test
+	public void testCase_normalizedCommand() {
+		final TestCase<?> testCase = new TestCase<>();
+		testCase.setTestCommand("ScannerTABLECommand");
+
+		assertThat(testCase.getNormalizedTestCommand(), is(equalTo("scannertablecommand")));
+		assertThat(TestCommandScanner.getTestCommand(testCase.getNormalizedTestCommand(), null).getMethod().getName(),
+				is(equalTo("tableCommand")));
+	}
+}
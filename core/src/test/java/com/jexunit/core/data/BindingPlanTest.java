@@ -0,0 +1,92 @@
+package com.jexunit.core.data;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.commands.DefaultCommands;
+import com.jexunit.core.data.entity.TestModelBase;
+import com.jexunit.core.data.entity.TestModelSub;
+import com.jexunit.core.model.HeaderSchema;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+
+public class BindingPlanTest {
+
+	@Test
+	public void forLayout_reusedForSameLayout() {
+		final BindingPlan plan = BindingPlan.forLayout(TestModelBase.class, Arrays.asList("intAttr", "stringAttr"));
+
+		assertThat(BindingPlan.forLayout(TestModelBase.class, Arrays.asList("intAttr", "stringAttr")),
+				is(sameInstance(plan)));
+		assertThat(BindingPlan.forLayout(TestModelBase.class, Arrays.asList("stringAttr", "intAttr")),
+				is(not(sameInstance(plan))));
+		assertThat(BindingPlan.forLayout(TestModelSub.class, Arrays.asList("intAttr", "stringAttr")),
+				is(not(sameInstance(plan))));
+	}
+
+	@Test
+	public void forSchema_sharedWithLayout() {
+		final HeaderSchema schema = HeaderSchema.of(Arrays.asList("intAttr", "booleanAttr"));
+		final BindingPlan plan = BindingPlan.forSchema(TestModelBase.class, schema);
+
+		assertThat(BindingPlan.forSchema(TestModelBase.class, schema), is(sameInstance(plan)));
+		assertThat(BindingPlan.forLayout(TestModelBase.class, Arrays.asList("intAttr", "booleanAttr")),
+				is(sameInstance(plan)));
+		assertThat(BindingPlan.forSchema(TestModelSub.class, schema), is(not(sameInstance(plan))));
+	}
+
+	@Test
+	public void createObject_schemaBackedAfterRemovingFrameworkColumn() throws Exception {
+		final TestCase<?> testCase = new TestCase<>(null,
+				HeaderSchema.of(Arrays.asList("doubleAttr", "comment", "booleanAttr")));
+		testCase.getValues().put("doubleAttr", new TestCell(1, "2.5"));
+		testCase.getValues().put("comment", new TestCell(2, "some comment"));
+		testCase.getValues().put("booleanAttr", new TestCell(3, "true"));
+		// like the runner does before invoking the test command
+		testCase.getValues().remove(JExUnitConfig.getDefaultCommandProperty(DefaultCommands.COMMENT));
+
+		final TestModelBase actual = TestObjectHelper.createObject(testCase, TestModelBase.class);
+
+		final HeaderSchema schema = testCase.getSchema();
+		assertThat(schema, is(sameInstance(HeaderSchema.of(Arrays.asList("doubleAttr", "booleanAttr")))));
+		// the plan has to be cached on the schema by binding the test-case, not created by the lookup here
+		final BindingPlan plan = schema.getDerived(TestModelBase.class, (s, clazz) -> {
+			throw new AssertionError("the test-case wasn't bound via its schema");
+		});
+		assertThat(plan, is(sameInstance(BindingPlan.forLayout(TestModelBase.class,
+				Arrays.asList("doubleAttr", "booleanAttr")))));
+		assertThat(actual.getDoubleAttr(), is(equalTo(2.5)));
+		assertThat(actual.isBooleanAttr(), is(true));
+	}
+
+	@Test
+	public void bind_directAndNestedProperties() throws Exception {
+		final Map<String, TestCell> values = new LinkedHashMap<>();
+		values.put("intAttr", new TestCell(1, "5.0"));
+		values.put("doubleAttr", new TestCell(2, null));
+		values.put("subEntityAttr.intAttr", new TestCell(3, "38"));
+		values.put("subEntityListAttr[1].intAttr", new TestCell(4, "2"));
+
+		final TestModelBase actual = new TestModelBase();
+		actual.setDoubleAttr(1.5);
+		BindingPlan.forLayout(TestModelBase.class, values.keySet()).bind(actual, values.values());
+
+		assertThat(actual.getIntAttr(), is(equalTo(5)));
+		assertThat(actual.getDoubleAttr(), is(nullValue()));
+		assertThat(actual.getSubEntityAttr().getIntAttr(), is(equalTo(38)));
+		assertThat(actual.getSubEntityListAttr().size(), is(equalTo(2)));
+		assertThat(actual.getSubEntityListAttr().get(1).getIntAttr(), is(equalTo(2)));
+	}
+
+}
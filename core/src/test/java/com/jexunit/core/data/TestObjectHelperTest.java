@@ -5,6 +5,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
 
+import java.math.BigDecimal;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -296,4 +298,47 @@ public class TestObjectHelperTest {
 		assertThat(actual.getMapAttr().get("ourKey"), is(equalTo("yeah!")));
 	}
 
+	/**
+	 * Test converting the typed values of the cells (as read from the excel-file) without parsing their String view.
+	 * 
+	 * @throws Exception
+	 *             in case that something goes wrong
+	 */
+	@Test
+	public void testConvertCellToObject_typedValues() throws Exception {
+		final Date date = new Date(1500000000123L);
+
+		assertThat(TestObjectHelper.convertCellToObject(int.class, new TestCell(1, (Object) 5.7)), is(equalTo((Object) 5)));
+		assertThat(TestObjectHelper.convertCellToObject(Long.class, new TestCell(1, (Object) 42.0)), is(equalTo((Object) 42L)));
+		assertThat(TestObjectHelper.convertCellToObject(Double.class, new TestCell(1, (Object) 3.21)),
+				is(equalTo((Object) 3.21)));
+		assertThat(TestObjectHelper.convertCellToObject(BigDecimal.class, new TestCell(1, (Object) 0.1)),
+				is(equalTo((Object) new BigDecimal("0.1"))));
+		assertThat(TestObjectHelper.convertCellToObject(boolean.class, new TestCell(1, (Object) Boolean.TRUE)),
+				is(equalTo((Object) true)));
+		// the date keeps its time
+		assertThat(TestObjectHelper.convertCellToObject(Date.class, new TestCell(1, (Object) date)),
+				is(equalTo((Object) date)));
+		// the String view of the value will be used for all the other types
+		assertThat(TestObjectHelper.convertCellToObject(String.class, new TestCell(1, (Object) 5.0)),
+				is(equalTo((Object) "5.0")));
+		assertThat(TestObjectHelper.convertCellToObject(int.class, new TestCell(1, "7")), is(equalTo((Object) 7)));
+	}
+
+	@Test
+	public void testCreateObjectTestCaseClassOfT_typedValues() throws Exception {
+		TestCase<?> testCase = new TestCase<>();
+		testCase.getValues().put("intAttr", new TestCell(1, (Object) 5.0));
+		testCase.getValues().put("doubleAttr", new TestCell(2, (Object) 3.21));
+		testCase.getValues().put("booleanAttr", new TestCell(3, (Object) Boolean.TRUE));
+		testCase.getValues().put("stringAttr", new TestCell(4, (Object) 1.5));
+
+		TestModelBase actual = TestObjectHelper.createObject(testCase, TestModelBase.class);
+
+		assertThat(actual.getIntAttr(), is(equalTo(5)));
+		assertThat(actual.getDoubleAttr(), is(equalTo(3.21)));
+		assertThat(actual.isBooleanAttr(), is(equalTo(true)));
+		assertThat(actual.getStringAttr(), is(equalTo("1.5")));
+	}
+
 }
@@ -0,0 +1,140 @@
+package com.jexunit.core.dataprovider;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+
+public class ExcelDataCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void writeAndRead_sameTestCases() throws Exception {
+		final String excelFile = createExcelFile("cache.xlsx", "first value");
+		final Map<String, List<TestCase<?>>> expected = ExcelLoader.readExcel(excelFile);
+		assertThat(expected.get("sheet").get(0).getMaxMillis(), is(250L));
+		assertThat(expected.get("sheet").get(1).getMaxMillis(), is(nullValue()));
+		assertThat(expected.get("sheet").get(0).getRepeat(), is(100));
+		assertThat(expected.get("sheet").get(0).getPercentile(), is(99.9));
+		assertThat(expected.get("sheet").get(1).isBarrier(), is(true));
+		assertThat(expected.get("sheet").get(2).getError(), is(notNullValue()));
+
+		final Path cacheFile = folder.getRoot().toPath().resolve("cache/test.bin");
+		ExcelDataCache.write(cacheFile, expected);
+		final Map<String, List<TestCase<?>>> actual = ExcelDataCache.read(cacheFile);
+
+		assertThat(new ArrayList<>(actual.keySet()), is(equalTo(new ArrayList<>(expected.keySet()))));
+		for (final String sheet : expected.keySet()) {
+			final List<TestCase<?>> expectedTestCases = expected.get(sheet);
+			final List<TestCase<?>> actualTestCases = actual.get(sheet);
+			assertThat(actualTestCases.size(), is(expectedTestCases.size()));
+			for (int i = 0; i < expectedTestCases.size(); i++) {
+				final TestCase<?> actualTestCase = actualTestCases.get(i);
+				final TestCase<?> expectedTestCase = expectedTestCases.get(i);
+				assertThat(actualTestCase.getTestCommand(), is(equalTo(expectedTestCase.getTestCommand())));
+				assertThat(actualTestCase.getMetadata().getDetailedIdentifier(),
+						is(equalTo(expectedTestCase.getMetadata().getDetailedIdentifier())));
+				assertThat(actualTestCase.getComment(), is(equalTo(expectedTestCase.getComment())));
+				assertThat(actualTestCase.isExceptionExpected(), is(expectedTestCase.isExceptionExpected()));
+				assertThat(actualTestCase.getFastFail(), is(equalTo(expectedTestCase.getFastFail())));
+				assertThat(actualTestCase.getMaxMillis(), is(equalTo(expectedTestCase.getMaxMillis())));
+				assertThat(actualTestCase.getRepeat(), is(equalTo(expectedTestCase.getRepeat())));
+				assertThat(actualTestCase.getWarmup(), is(equalTo(expectedTestCase.getWarmup())));
+				assertThat(actualTestCase.getPercentile(), is(equalTo(expectedTestCase.getPercentile())));
+				assertThat(actualTestCase.isBarrier(), is(expectedTestCase.isBarrier()));
+				assertThat(actualTestCase.getError(), is(equalTo(expectedTestCase.getError())));
+				for (final Map.Entry<String, TestCell> entry : expectedTestCase.getValues().entrySet()) {
+					final TestCell cell = actualTestCase.getValues().get(entry.getKey());
+					assertThat(cell.getValue(), is(equalTo(entry.getValue().getValue())));
+					assertThat(cell.getColumn(), is(equalTo(entry.getValue().getColumn())));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void cacheKey_dependsOnContent() throws Exception {
+		final Path first = new File(createExcelFile("first.xlsx", "first value")).toPath();
+		final Path copy = folder.getRoot().toPath().resolve("copy.xlsx");
+		Files.copy(first, copy);
+		final Path second = new File(createExcelFile("second.xlsx", "second value")).toPath();
+
+		final WorksheetFilter filter = WorksheetFilter.fromConfig();
+		assertThat(ExcelDataCache.cacheKey(copy, filter), is(equalTo(ExcelDataCache.cacheKey(first, filter))));
+		assertThat(ExcelDataCache.cacheKey(second, filter), is(not(equalTo(ExcelDataCache.cacheKey(first, filter)))));
+	}
+
+	@Test
+	public void read_corruptCacheFile() throws Exception {
+		final Path cacheFile = folder.newFile("corrupt.bin").toPath();
+		Files.write(cacheFile, new byte[] { 1, 2, 3 });
+
+		Exception exception = null;
+		try {
+			ExcelDataCache.read(cacheFile);
+		} catch (final Exception e) {
+			exception = e;
+		}
+		assertThat(exception, is(not(nullValue())));
+	}
+
+	private String createExcelFile(final String name, final String value) throws Exception {
+		final XSSFWorkbook workbook = new XSSFWorkbook();
+		final XSSFSheet sheet = workbook.createSheet("sheet");
+		XSSFRow row = sheet.createRow(0);
+		row.createCell(0).setCellValue("command");
+		row.createCell(1).setCellValue("param");
+		row.createCell(2).setCellValue("comment");
+		row.createCell(3).setCellValue("fastFail");
+		row.createCell(4).setCellValue("maxMillis");
+		row.createCell(5).setCellValue("repeat");
+		row.createCell(6).setCellValue("percentile");
+		row.createCell(7).setCellValue("barrier");
+		row = sheet.createRow(1);
+		row.createCell(0).setCellValue("cmd");
+		row.createCell(1).setCellValue(value);
+		row.createCell(2).setCellValue("my comment");
+		row.createCell(3).setCellValue(true);
+		row.createCell(4).setCellValue(250);
+		row.createCell(5).setCellValue(100);
+		row.createCell(6).setCellValue(99.9);
+		row = sheet.createRow(2);
+		row.createCell(0).setCellValue("cmd");
+		row.createCell(1).setCellValue(value);
+		row.createCell(7).setCellValue(true);
+		row = sheet.createRow(3);
+		row.createCell(0).setCellValue("cmd");
+		row.createCell(1).setCellValue(value);
+		row.createCell(4).setCellValue("abc");
+
+		final File file = folder.newFile(name);
+		try (OutputStream out = new FileOutputStream(file)) {
+			workbook.write(out);
+		}
+		return file.getAbsolutePath();
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.jexunit.core.dataprovider;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.model.TestCase;
+
+public class ExcelDataProviderTest {
+
+	@ClassRule
+	public static TemporaryFolder folder = new TemporaryFolder();
+
+	private static final List<String> files = new ArrayList<>();
+
+	public static class ParallelTest {
+
+		@ExcelFile
+		static String[] excelFiles;
+	}
+
+	@BeforeClass
+	public static void prepare() throws Exception {
+		for (int i = 0; i < 4; i++) {
+			final XSSFWorkbook workbook = new XSSFWorkbook();
+			final XSSFRow row = workbook.createSheet("sheet" + i).createRow(0);
+			row.createCell(0).setCellValue("report");
+			row.createCell(1).setCellValue("file " + i);
+
+			final File file = folder.newFile("file" + i + ".xlsx");
+			try (OutputStream out = new FileOutputStream(file)) {
+				workbook.write(out);
+			}
+			files.add(file.getPath());
+		}
+	}
+
+	@After
+	public void resetConfig() {
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.EXCEL_PARALLEL_LOADING.getKey(), "false");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void preload_resultsInOrder() throws Exception {
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.EXCEL_PARALLEL_LOADING.getKey(), "true");
+		ParallelTest.excelFiles = files.toArray(new String[files.size()]);
+		final ExcelDataProvider provider = new ExcelDataProvider();
+		provider.initialize(ParallelTest.class);
+
+		assertThat(provider.numberOfTests(), is(files.size()));
+		// request the test data in reverse order, so the order of completion doesn't matter
+		for (int i = files.size() - 1; i >= 0; i--) {
+			final Collection<Object[]> testData = provider.loadTestData(i);
+			assertThat(testData.size(), is(1));
+			final List<TestCase<?>> testCases = (List<TestCase<?>>) testData.iterator().next()[0];
+			assertThat(((ExcelMetadata) testCases.get(0).getMetadata()).getSheet(), is(equalTo("sheet" + i)));
+		}
+	}
+
+	@Test
+	public void preload_errorPropagated() throws Exception {
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.EXCEL_PARALLEL_LOADING.getKey(), "true");
+		ParallelTest.excelFiles = new String[] { files.get(0), folder.getRoot().getPath() + "/missing.xlsx" };
+		final ExcelDataProvider provider = new ExcelDataProvider();
+		provider.initialize(ParallelTest.class);
+
+		assertThat(provider.loadTestData(0).size(), is(1));
+		try {
+			provider.loadTestData(1);
+		} catch (final Exception e) {
+			// the exception of the loader is thrown, not the one of the pool
+			assertThat(e, is(not(instanceOf(ExecutionException.class))));
+			assertThat(e.getMessage(), containsString("excel-file"));
+			return;
+		}
+		throw new AssertionError("loading the missing excel-file should fail");
+	}
+
+}
@@ -0,0 +1,386 @@
+package com.jexunit.core.dataprovider;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.xssf.usermodel.XSSFFormulaEvaluator;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.model.TestCase;
+import com.jexunit.core.model.TestCell;
+
+public class ExcelStreamReaderTest {
+
+	@ClassRule
+	public static TemporaryFolder folder = new TemporaryFolder();
+
+	private static String excelFile;
+
+	@BeforeClass
+	public static void prepare() throws Exception {
+		final XSSFWorkbook workbook = new XSSFWorkbook();
+		final CellStyle dateStyle = workbook.createCellStyle();
+		dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd.mm.yyyy"));
+
+		final XSSFSheet first = workbook.createSheet("first");
+		XSSFRow row = first.createRow(0);
+		row.createCell(1).setCellValue("this is a comment line");
+		row = first.createRow(1);
+		row.createCell(0).setCellValue("disabled");
+		row.createCell(1).setCellValue(false);
+		row = first.createRow(3);
+		row.createCell(0).setCellValue("command");
+		row.createCell(1).setCellValue("param1");
+		row.createCell(2).setCellValue("param2");
+		row.createCell(3).setCellValue("result");
+		row.createCell(4).setCellValue("comment");
+		row.createCell(5).setCellValue("exception");
+		row = first.createRow(4);
+		row.createCell(0).setCellValue("add");
+		row.createCell(1).setCellValue(1);
+		row.createCell(2).setCellValue(2.5);
+		row.createCell(3).setCellFormula("B5+C5");
+		row.createCell(4).setCellValue("my comment");
+		row.createCell(5).setCellValue(true);
+		row = first.createRow(5);
+		row.createCell(0).setCellValue("add");
+		row.createCell(1).setCellValue(new GregorianCalendar(2014, Calendar.MAY, 17).getTime());
+		row.getCell(1).setCellStyle(dateStyle);
+		row.createCell(2).setCellValue("a string");
+		row.createCell(3).setCellFormula("CONCATENATE(C6, \"!\")");
+		row = first.createRow(7);
+		row.createCell(0).setCellValue("report");
+		row.createCell(1).setCellValue("some report");
+		row.createCell(2).setCellValue(42);
+
+		final XSSFSheet second = workbook.createSheet("second");
+		row = second.createRow(0);
+		row.createCell(0).setCellValue("report");
+		row.createCell(1).setCellValue("second sheet");
+
+		XSSFFormulaEvaluator.evaluateAllFormulaCells(workbook);
+
+		final File file = folder.newFile("streaming.xlsx");
+		try (OutputStream out = new FileOutputStream(file)) {
+			workbook.write(out);
+		}
+		excelFile = file.getAbsolutePath();
+	}
+
+	@Test
+	public void readExcelStreaming_sameTestCasesAsReadExcel() throws Exception {
+		final Map<String, List<TestCase<?>>> expected = ExcelLoader.readExcel(excelFile);
+		final Map<String, List<TestCase<?>>> actual = ExcelLoader.readExcelStreaming(excelFile);
+
+		assertThat(new ArrayList<>(actual.keySet()), is(equalTo(new ArrayList<>(expected.keySet()))));
+		for (final String sheet : expected.keySet()) {
+			final List<TestCase<?>> expectedTestCases = expected.get(sheet);
+			final List<TestCase<?>> actualTestCases = actual.get(sheet);
+			assertThat(actualTestCases.size(), is(expectedTestCases.size()));
+			for (int i = 0; i < expectedTestCases.size(); i++) {
+				assertTestCase(actualTestCases.get(i), expectedTestCases.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void readNextWorksheet() throws Exception {
+		try (ExcelStreamReader reader = new ExcelStreamReader(excelFile)) {
+			final List<TestCase<ExcelMetadata>> testCases = new ArrayList<>();
+			assertThat(reader.readNextWorksheet(testCases::add), is(equalTo("first")));
+			assertThat(testCases.size(), is(4));
+			assertThat(testCases.get(1).getMetadata().getRow(), is(5));
+			assertThat(testCases.get(1).getValues().get("result").getValue(), is(equalTo("3.5")));
+			assertThat(testCases.get(1).isExceptionExpected(), is(true));
+			assertThat(testCases.get(2).getValues().get("param1").getValue(), is(equalTo("17.05.2014")));
+			assertThat(testCases.get(2).getValues().get("result").getValue(), is(equalTo("a string!")));
+
+			testCases.clear();
+			assertThat(reader.readNextWorksheet(testCases::add), is(equalTo("second")));
+			assertThat(testCases.size(), is(1));
+			assertThat(reader.hasNextWorksheet(), is(false));
+		}
+	}
+
+	@Test
+	public void testDataCursor_skipWorksheet() throws Exception {
+		try (ExcelTestDataCursor cursor = new ExcelTestDataCursor(excelFile)) {
+			assertThat(cursor.hasNext(), is(true));
+			assertThat(cursor.getNextTestGroup(), is(equalTo("first")));
+			cursor.skip();
+			assertThat(cursor.getNextTestGroup(), is(equalTo("second")));
+			final List<TestCase<?>> testCases = cursor.next();
+			assertThat(testCases.size(), is(1));
+			assertThat(testCases.get(0).getValues().get("param1").getValue(), is(equalTo("second sheet")));
+			assertThat(cursor.hasNext(), is(false));
+		}
+	}
+
+	@Test
+	public void lazyTestDataCursor_loadOnDemand() throws Exception {
+		final List<String> requested = new ArrayList<>();
+		final List<String> worksheets = ExcelStreamReader.readWorksheetNames(excelFile);
+		assertThat(worksheets, is(equalTo(Arrays.asList("first", "second"))));
+
+		try (LazyExcelTestDataCursor cursor = new LazyExcelTestDataCursor(worksheets, worksheet -> {
+			requested.add(worksheet);
+			return ExcelLoader.readExcel(excelFile).get(worksheet);
+		})) {
+			assertThat(cursor.getNextTestGroup(), is(equalTo("first")));
+			cursor.skip();
+			assertThat(requested.isEmpty(), is(true));
+			assertThat(cursor.next().size(), is(1));
+			assertThat(requested, is(equalTo(Arrays.asList("second"))));
+			assertThat(cursor.hasNext(), is(false));
+		}
+	}
+
+	@Test
+	public void readExcel_singleWorksheet() throws Exception {
+		final WorksheetFilter filter = WorksheetFilter.fromConfig();
+
+		assertThat(new ArrayList<>(ExcelLoader.readExcel(excelFile, filter.only("second")).keySet()),
+				is(equalTo(Arrays.asList("second"))));
+		assertThat(ExcelLoader.readExcel(excelFile, filter.only("unknown")).isEmpty(), is(true));
+	}
+
+	@Test
+	public void readExcel_worksheetFilter() throws Exception {
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.EXCEL_SHEETS_INCLUDE.getKey(), "f.*, sec.*");
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.EXCEL_SHEETS_EXCLUDE.getKey(), "fir.*");
+		try {
+			assertThat(new ArrayList<>(ExcelLoader.readExcel(excelFile).keySet()),
+					is(equalTo(Arrays.asList("second"))));
+			assertThat(new ArrayList<>(ExcelLoader.readExcelStreaming(excelFile).keySet()),
+					is(equalTo(Arrays.asList("second"))));
+			try (ExcelTestDataCursor cursor = new ExcelTestDataCursor(excelFile)) {
+				assertThat(cursor.getNextTestGroup(), is(equalTo("second")));
+				cursor.skip();
+				assertThat(cursor.hasNext(), is(false));
+			}
+		} finally {
+			JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.EXCEL_SHEETS_INCLUDE.getKey(), "");
+			JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.EXCEL_SHEETS_EXCLUDE.getKey(), "");
+		}
+	}
+
+	@Test
+	public void readExcel_disabledWorksheetNotParsed() throws Exception {
+		final XSSFWorkbook workbook = new XSSFWorkbook();
+		final XSSFSheet sheet = workbook.createSheet("disabled");
+		XSSFRow row = sheet.createRow(0);
+		row.createCell(0).setCellValue("disabled");
+		row.createCell(1).setCellValue(true);
+		row = sheet.createRow(1);
+		row.createCell(0).setCellValue("report");
+		row.createCell(1).setCellValue("never read");
+
+		final File file = folder.newFile("disabled.xlsx");
+		try (OutputStream out = new FileOutputStream(file)) {
+			workbook.write(out);
+		}
+
+		for (final Map<String, List<TestCase<?>>> tests : Arrays.asList(ExcelLoader.readExcel(file.getAbsolutePath()),
+				ExcelLoader.readExcelStreaming(file.getAbsolutePath()))) {
+			assertThat(tests.get("disabled").size(), is(1));
+			assertThat(tests.get("disabled").get(0).isDisabled(), is(true));
+		}
+	}
+
+	@Test
+	public void readExcel_invalidMaxMillis() throws Exception {
+		final XSSFWorkbook workbook = new XSSFWorkbook();
+		final XSSFSheet sheet = workbook.createSheet("budgets");
+		XSSFRow row = sheet.createRow(0);
+		row.createCell(0).setCellValue("command");
+		row.createCell(1).setCellValue("maxMillis");
+		row = sheet.createRow(1);
+		row.createCell(0).setCellValue("add");
+		row.createCell(1).setCellValue("abc");
+		row = sheet.createRow(2);
+		row.createCell(0).setCellValue("add");
+		row.createCell(1).setCellValue("10ms");
+		row = sheet.createRow(3);
+		row.createCell(0).setCellValue("add");
+		row.createCell(1).setCellValue(50);
+
+		final File file = folder.newFile("budgets.xlsx");
+		try (OutputStream out = new FileOutputStream(file)) {
+			workbook.write(out);
+		}
+
+		for (final Map<String, List<TestCase<?>>> tests : Arrays.asList(ExcelLoader.readExcel(file.getAbsolutePath()),
+				ExcelLoader.readExcelStreaming(file.getAbsolutePath()))) {
+			final List<TestCase<?>> testCases = tests.get("budgets");
+			assertThat(testCases.size(), is(3));
+			assertThat(testCases.get(0).getError(), containsString("maxMillis"));
+			assertThat(testCases.get(0).getError(), containsString("abc"));
+			assertThat(testCases.get(1).getError(), containsString("10ms"));
+			assertThat(testCases.get(2).getError(), is(nullValue()));
+			assertThat(testCases.get(2).getMaxMillis(), is(equalTo(50L)));
+		}
+	}
+
+	@Test
+	public void readExcel_invalidBenchmarkValues() throws Exception {
+		final XSSFWorkbook workbook = new XSSFWorkbook();
+		final XSSFSheet sheet = workbook.createSheet("benchmarks");
+		final Object[][] rows = { { "command", "repeat", "warmup", "percentile" }, { "add", -1, 1, 50 },
+				{ "add", 10, "x", 50 }, { "add", 10, -2, 50 }, { "add", 10, 1, 101 }, { "add", 10, 1, "p99" },
+				{ "add", 10, 0, 99.9 } };
+		for (int i = 0; i < rows.length; i++) {
+			final XSSFRow row = sheet.createRow(i);
+			for (int j = 0; j < rows[i].length; j++) {
+				if (rows[i][j] instanceof Number) {
+					row.createCell(j).setCellValue(((Number) rows[i][j]).doubleValue());
+				} else {
+					row.createCell(j).setCellValue((String) rows[i][j]);
+				}
+			}
+		}
+
+		final File file = folder.newFile("benchmarks.xlsx");
+		try (OutputStream out = new FileOutputStream(file)) {
+			workbook.write(out);
+		}
+
+		for (final Map<String, List<TestCase<?>>> tests : Arrays.asList(ExcelLoader.readExcel(file.getAbsolutePath()),
+				ExcelLoader.readExcelStreaming(file.getAbsolutePath()))) {
+			final List<TestCase<?>> testCases = tests.get("benchmarks");
+			assertThat(testCases.size(), is(6));
+			assertThat(testCases.get(0).getError(), containsString("repeat (negative number)"));
+			assertThat(testCases.get(1).getError(), containsString("warmup (no number): x"));
+			assertThat(testCases.get(2).getError(), containsString("warmup (negative number)"));
+			assertThat(testCases.get(3).getError(), containsString("percentile (not within 0 - 100)"));
+			assertThat(testCases.get(4).getError(), containsString("percentile (no number): p99"));
+			assertThat(testCases.get(5).getError(), is(nullValue()));
+			assertThat(testCases.get(5).getRepeat(), is(equalTo(10)));
+			assertThat(testCases.get(5).getWarmup(), is(equalTo(0)));
+			assertThat(testCases.get(5).getPercentile(), is(equalTo(99.9)));
+		}
+	}
+
+	@Test
+	public void readExcelStreaming_errorContext() throws Exception {
+		final XSSFWorkbook workbook = new XSSFWorkbook();
+		final XSSFSheet sheet = workbook.createSheet("broken");
+		final String[][] rows = { { "command", "param" }, { "add", "x" }, { "add", "y" } };
+		for (int i = 0; i < rows.length; i++) {
+			final XSSFRow row = sheet.createRow(i);
+			for (int j = 0; j < rows[i].length; j++) {
+				row.createCell(j).setCellValue(rows[i][j]);
+			}
+		}
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		workbook.write(bytes);
+
+		// refer to a shared string not existing in the cell B3 ("y" is the shared string with the index 4)
+		final File file = folder.newFile("broken.xlsx");
+		try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+				ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+			ZipEntry entry;
+			while ((entry = in.getNextEntry()) != null) {
+				final ByteArrayOutputStream content = new ByteArrayOutputStream();
+				final byte[] buffer = new byte[4096];
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					content.write(buffer, 0, read);
+				}
+				byte[] data = content.toByteArray();
+				if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+					data = new String(data, StandardCharsets.UTF_8).replace("<v>4</v>", "<v>999</v>")
+							.getBytes(StandardCharsets.UTF_8);
+				}
+				out.putNextEntry(new ZipEntry(entry.getName()));
+				out.write(data);
+				out.closeEntry();
+			}
+		}
+
+		try {
+			ExcelLoader.readExcelStreaming(file.getAbsolutePath());
+			fail("the invalid shared string has to fail reading the excel-file");
+		} catch (final Exception e) {
+			assertThat(e.getMessage(), containsString("worksheet: broken row: 3 column: B"));
+		}
+	}
+
+	@Test
+	public void readExcel_cachedFormulaResults() throws Exception {
+		final XSSFWorkbook workbook = new XSSFWorkbook();
+		final XSSFSheet sheet = workbook.createSheet("formulas");
+		XSSFRow row = sheet.createRow(0);
+		row.createCell(0).setCellValue("command");
+		row.createCell(1).setCellValue("result");
+		row = sheet.createRow(1);
+		row.createCell(0).setCellValue("add");
+		row.createCell(1).setCellFormula("1+2");
+		// outdated result stored in the excel-file
+		row.getCell(1).setCellValue(7);
+
+		final File file = folder.newFile("formulas.xlsx");
+		try (OutputStream out = new FileOutputStream(file)) {
+			workbook.write(out);
+		}
+
+		assertThat(firstResult(ExcelLoader.readExcel(file.getAbsolutePath())), is(equalTo((Object) 3.0)));
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.EXCEL_FORMULA_CACHED_RESULTS.getKey(), "true");
+		try {
+			assertThat(firstResult(ExcelLoader.readExcel(file.getAbsolutePath())), is(equalTo((Object) 7.0)));
+			assertThat(firstResult(ExcelLoader.readExcelStreaming(file.getAbsolutePath())),
+					is(equalTo((Object) 7.0)));
+		} finally {
+			JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.EXCEL_FORMULA_CACHED_RESULTS.getKey(), "false");
+		}
+	}
+
+	private Object firstResult(final Map<String, List<TestCase<?>>> tests) {
+		return tests.get("formulas").get(0).getValues().get("result").getTypedValue();
+	}
+
+	private void assertTestCase(final TestCase<?> actual, final TestCase<?> expected) {
+		assertThat(actual.getTestCommand(), is(equalTo(expected.getTestCommand())));
+		assertThat(actual.getMetadata().getDetailedIdentifier(),
+				is(equalTo(expected.getMetadata().getDetailedIdentifier())));
+		assertThat(actual.getComment(), is(equalTo(expected.getComment())));
+		assertThat(actual.isDisabled(), is(expected.isDisabled()));
+		assertThat(actual.isExceptionExpected(), is(expected.isExceptionExpected()));
+		assertThat(new ArrayList<>(actual.getValues().keySet()),
+				is(equalTo(new ArrayList<>(expected.getValues().keySet()))));
+		for (final Map.Entry<String, TestCell> entry : expected.getValues().entrySet()) {
+			final TestCell cell = actual.getValues().get(entry.getKey());
+			assertThat(cell.getValue(), is(equalTo(entry.getValue().getValue())));
+			assertThat(cell.getTypedValue(), is(equalTo(entry.getValue().getTypedValue())));
+			assertThat(cell.getColumn(), is(equalTo(entry.getValue().getColumn())));
+		}
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.jexunit.core.junit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.jexunit.core.JExUnitBase;
+import com.jexunit.core.context.TestContext;
+import com.jexunit.core.context.TestContextManager;
+import com.jexunit.core.metrics.LoadTestReport;
+import com.jexunit.core.model.TestCase;
+
+public class LoadTestRunnerTest {
+
+	private static final AtomicInteger invocations = new AtomicInteger();
+	private static final Set<TestContext> contexts = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	public static class LoadTest extends JExUnitBase {
+
+		@Override
+		public void runCommand(final TestCase<?> testCase) throws Exception {
+			invocations.incrementAndGet();
+			contexts.add(TestContextManager.getTestContext());
+			if ("fail".equals(testCase.getTestCommand())) {
+				throw new AssertionError("failed");
+			}
+		}
+	}
+
+	@Test
+	public void run_usersAndIterations() throws Exception {
+		invocations.set(0);
+		contexts.clear();
+		final TestCase<?> disabled = testCase("run");
+		disabled.setDisabled(true);
+		final List<TestCase<?>> testCases = Arrays.asList(testCase("run"), testCase("fail"), disabled);
+
+		final LoadTestReport report = new LoadTestRunner(LoadTest.class, null, new LoadTestSettings(3, 0, 0, 2))
+				.run("test", Collections.singletonList(testCases));
+
+		assertThat(invocations.get(), is(12));
+		assertThat(contexts.size(), is(3));
+		assertThat(report.getCount(), is(12L));
+		assertThat(report.getErrors(), is(6L));
+
+		final Path json = report.write(folder.getRoot().toPath());
+		assertThat(Files.exists(json), is(true));
+		assertThat(new String(Files.readAllBytes(json), "UTF-8").contains("\"errors\": 6"), is(true));
+	}
+
+	private TestCase<?> testCase(final String command) {
+		final TestCase<?> testCase = new TestCase<>();
+		testCase.setTestCommand(command);
+		return testCase;
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.jexunit.core.metrics;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.jexunit.core.dataprovider.ExcelLoader;
+import com.jexunit.core.testsupport.WorkbookGenerator;
+
+public class FlightRecorderEventsTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Before
+	public void checkAvailable() {
+		assumeTrue(FlightRecorderEvents.isAvailable());
+	}
+
+	@Test
+	public void notRecording_noEvent() {
+		assertThat(FlightRecorderEvents.begin(FlightRecorderEvents.Type.COMMAND_INVOKE), is(nullValue()));
+		// committing a disabled event does nothing
+		FlightRecorderEvents.commit(null, null, null, 0, null);
+	}
+
+	@Test
+	public void recording_workbookAndSheetEvents() throws Exception {
+		final File excelFile = new WorkbookGenerator().sheets(2).rows(10)
+				.generate(new File(folder.getRoot(), "events.xlsx"));
+		final Path dump = new File(folder.getRoot(), "events.jfr").toPath();
+
+		try (Recording recording = new Recording()) {
+			recording.enable("com.jexunit.WorkbookLoad").withoutThreshold();
+			recording.enable("com.jexunit.SheetParse").withoutThreshold();
+			recording.start();
+			ExcelLoader.loadTestData(excelFile.getAbsolutePath(), true);
+			recording.stop();
+			recording.dump(dump);
+		}
+
+		final List<String> sheets = new ArrayList<>();
+		int workbooks = 0;
+		for (final RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+			if ("com.jexunit.WorkbookLoad".equals(event.getEventType().getName())) {
+				assertThat(event.getString("file"), is(equalTo(excelFile.getAbsolutePath())));
+				workbooks++;
+			} else if ("com.jexunit.SheetParse".equals(event.getEventType().getName())) {
+				sheets.add(event.getString("sheet"));
+			}
+		}
+		assertThat(workbooks, is(1));
+		assertThat(sheets.contains("sheet1") && sheets.contains("sheet2"), is(true));
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.jexunit.core.metrics;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.jexunit.core.JExUnitConfig;
+
+public class MetricsTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@After
+	public void disable() {
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.METRICS.getKey(), "false");
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.METRICS_DIRECTORY.getKey(), "target");
+		Metrics.reset();
+	}
+
+	@Test
+	public void histogram_percentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for (long i = 1; i <= 10000; i++) {
+			histogram.record(i * 1000);
+		}
+
+		assertThat(histogram.getCount(), is(10000L));
+		assertWithin(histogram.getPercentile(50), 5000000);
+		assertWithin(histogram.getPercentile(99), 9900000);
+		assertWithin(histogram.getPercentile(100), 10000000);
+		assertThat(histogram.getMax(), is(10000000L));
+	}
+
+	@Test
+	public void histogram_buckets() {
+		for (long value : new long[] { 0, 1, 63, 64, 65, 1000, 123456789, Long.MAX_VALUE }) {
+			final long upperBound = LatencyHistogram.upperBound(LatencyHistogram.bucket(value));
+			assertTrue(value + " <= " + upperBound, value <= upperBound);
+			assertTrue(value + " ~ " + upperBound, upperBound - value <= Math.max(1, value / 16));
+		}
+	}
+
+	@Test
+	public void disabled_noTimers() {
+		Metrics.reset();
+		assertThat(Metrics.start(), is(0L));
+		assertThat(Metrics.stop(Phase.LOAD, Metrics.start()), is(0L));
+	}
+
+	@Test
+	public void recordCommandLatency() {
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.METRICS.getKey(), "true");
+		Metrics.reset();
+
+		Metrics.recordCommandLatency("mul", 2000000);
+		Metrics.recordCommandLatency("mul", 4000000);
+
+		final LatencyHistogram histogram = Metrics.getCommands().get("mul");
+		assertThat(histogram.getCount(), is(2L));
+		assertThat(histogram.getMax(), is(4000000L));
+	}
+
+	@Test
+	public void report_writtenAsJsonAndCsv() throws Exception {
+		final Path directory = folder.getRoot().toPath().resolve("metrics");
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.METRICS.getKey(), "true");
+		JExUnitConfig.setConfigProperty(JExUnitConfig.ConfigKey.METRICS_DIRECTORY.getKey(), directory.toString());
+		Metrics.reset();
+
+		Metrics.stop(Phase.LOAD, Metrics.start());
+		Metrics.recordCommand("add", Metrics.start());
+		Metrics.recordCommand("add", Metrics.start());
+		MetricsReport.write();
+
+		final String json = new String(Files.readAllBytes(directory.resolve(MetricsReport.JSON_FILE)),
+				StandardCharsets.UTF_8);
+		assertThat(json, containsString("\"load\": {\"count\": 1,"));
+		assertThat(json, containsString("\"add\": {\"count\": 2,"));
+
+		final List<String> csv = Files.readAllLines(directory.resolve(MetricsReport.CSV_FILE), StandardCharsets.UTF_8);
+		assertThat(csv.get(0), is("type,name,count,total_ms,p50_us,p90_us,p99_us,max_us"));
+		assertThat(csv.size(), is(1 + Phase.values().length + 1));
+		assertThat(csv.get(csv.size() - 1), containsString("command,add,2,"));
+	}
+
+	private void assertWithin(long actual, long expected) {
+		assertTrue(actual + " ~ " + expected, Math.abs(actual - expected) <= expected * 0.04);
+	}
+
+}
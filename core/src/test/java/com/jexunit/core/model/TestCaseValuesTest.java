@@ -0,0 +1,163 @@
+package com.jexunit.core.model;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class TestCaseValuesTest {
+
+	@Test
+	public void headerSchema_interned() {
+		final HeaderSchema schema = HeaderSchema.of(Arrays.asList("a", "b", "a"));
+
+		assertThat(HeaderSchema.of(new ArrayList<>(Arrays.asList("a", "b", "a"))), is(sameInstance(schema)));
+		assertThat(schema.getKeys(), is(equalTo(Arrays.asList("a", "b"))));
+		assertThat(schema.indexOf("b"), is(1));
+		assertThat(schema.indexOf("c"), is(-1));
+	}
+
+	@Test
+	public void headerSchema_releasedIfUnused() throws InterruptedException {
+		final Reference<HeaderSchema> released = new WeakReference<>(
+				HeaderSchema.of(Arrays.asList("released", "unused")));
+		for (int i = 0; i < 50 && released.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertThat(released.get(), is(nullValue()));
+		assertThat(HeaderSchema.of(Arrays.asList("released", "unused")).getKeys(),
+				is(equalTo(Arrays.asList("released", "unused"))));
+	}
+
+	@Test
+	public void headerSchema_derivedOncePerOwner() {
+		final HeaderSchema schema = HeaderSchema.of(Arrays.asList("a", "b"));
+		final AtomicInteger created = new AtomicInteger();
+
+		final Object derived = schema.getDerived("owner", (s, owner) -> owner + created.incrementAndGet());
+
+		assertThat(schema.getDerived("owner", (s, owner) -> owner + created.incrementAndGet()),
+				is(sameInstance(derived)));
+		assertThat(schema.getDerived("other", (s, owner) -> owner + created.incrementAndGet()),
+				is(equalTo((Object) "other2")));
+		assertThat(created.get(), is(2));
+	}
+
+	@Test
+	public void values_behaveLikeLinkedHashMap() {
+		final Map<String, TestCell> values = new TestCaseValues(HeaderSchema.of(Arrays.asList("a", "b", "c")));
+		final Map<String, TestCell> expected = new LinkedHashMap<>();
+
+		final TestCell a = new TestCell(2, "a");
+		final TestCell b = new TestCell(3, "b");
+		final TestCell c = new TestCell(4, "c");
+		for (final Map<String, TestCell> map : Arrays.asList(values, expected)) {
+			map.put("a", a);
+			map.put("c", c);
+		}
+		assertThat(values, is(equalTo(expected)));
+		assertThat(new ArrayList<>(values.keySet()), is(equalTo(new ArrayList<>(expected.keySet()))));
+		assertThat(values.get("b"), is(nullValue()));
+
+		// removing and adding a key again changes the order
+		for (final Map<String, TestCell> map : Arrays.asList(values, expected)) {
+			map.remove("a");
+			map.put("b", b);
+			map.put("a", a);
+			map.put("other", c);
+		}
+		assertThat(values.size(), is(4));
+		assertThat(new ArrayList<>(values.keySet()), is(equalTo(new ArrayList<>(expected.keySet()))));
+		assertThat(values, is(equalTo(expected)));
+	}
+
+	@Test
+	public void values_removeViaIterator() {
+		final Map<String, TestCell> values = new TestCaseValues(HeaderSchema.of(Arrays.asList("a", "b")));
+		values.put("a", new TestCell(2, "a"));
+		values.put("b", new TestCell(3, "b"));
+
+		final Iterator<Map.Entry<String, TestCell>> iterator = values.entrySet().iterator();
+		iterator.next();
+		iterator.remove();
+
+		assertThat(values.size(), is(1));
+		assertThat(values.containsKey("a"), is(false));
+		assertThat(values.get("b").getValue(), is(equalTo("b")));
+	}
+
+	@Test
+	public void testCase_removeKeepsSchema() {
+		final TestCase<?> testCase = new TestCase<>(null, HeaderSchema.of(Arrays.asList("a", "comment", "b")));
+		final Map<String, TestCell> expected = new LinkedHashMap<>();
+		final TestCell a = new TestCell(2, "a");
+		final TestCell comment = new TestCell(3, "comment");
+		final TestCell b = new TestCell(4, "b");
+		for (final Map<String, TestCell> map : Arrays.asList(testCase.getValues(), expected)) {
+			map.put("a", a);
+			map.put("comment", comment);
+			map.put("b", b);
+			map.remove("comment");
+		}
+
+		// the values still match a schema (without the removed key)
+		assertThat(testCase.getSchema(), is(sameInstance(HeaderSchema.of(Arrays.asList("a", "b")))));
+		assertThat(testCase.getValues(), is(equalTo(expected)));
+		assertThat(new ArrayList<>(testCase.getValues().keySet()), is(equalTo(Arrays.asList("a", "b"))));
+		assertThat(testCase.getValues().get("b").getValue(), is(equalTo("b")));
+
+		testCase.getValues().put("comment", comment);
+		expected.put("comment", comment);
+		assertThat(testCase.getSchema(), is(nullValue()));
+		assertThat(new ArrayList<>(testCase.getValues().entrySet()), is(equalTo(new ArrayList<>(expected.entrySet()))));
+	}
+
+	@Test
+	public void testCase_schemaOnlyIfKeysMatch() {
+		final HeaderSchema schema = HeaderSchema.of(Arrays.asList("a", "b"));
+		final TestCase<?> testCase = new TestCase<>(null, schema);
+		testCase.getValues().put("a", new TestCell(2, "a"));
+
+		assertThat(testCase.getSchema(), is(nullValue()));
+		testCase.getValues().put("b", new TestCell(3, "b"));
+		assertThat(testCase.getSchema(), is(sameInstance(schema)));
+		testCase.getValues().put("c", new TestCell(4, "c"));
+		assertThat(testCase.getSchema(), is(nullValue()));
+		assertThat(new TestCase<>().getSchema(), is(nullValue()));
+	}
+
+	@Test
+	public void testCase_copyKeepsSchema() {
+		final HeaderSchema schema = HeaderSchema.of(Arrays.asList("a", "b"));
+		final TestCase<?> testCase = new TestCase<>(null, schema);
+		testCase.setTestCommand("Command");
+		testCase.setBarrier(true);
+		testCase.setRepeat(3);
+		testCase.getValues().put("a", new TestCell(2, "a"));
+		testCase.getValues().put("b", new TestCell(3, "b"));
+
+		final TestCase<?> copy = new TestCase<>(testCase);
+		copy.getValues().remove("a");
+
+		assertThat(testCase.getSchema(), is(sameInstance(schema)));
+		assertThat(copy.getNormalizedTestCommand(), is(equalTo("command")));
+		assertThat(copy.isBarrier(), is(true));
+		assertThat(copy.getRepeat(), is(3));
+		assertThat(new TestCase<>(testCase).getSchema(), is(sameInstance(schema)));
+	}
+
+}
@@ -0,0 +1,221 @@
+package com.jexunit.core.testsupport;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.jexunit.core.JExUnitConfig;
+import com.jexunit.core.commands.DefaultCommands;
+
+/**
+ * Generator for (large) excel-files in the layout of JExUnit, for scale tests and benchmarks. The workbook is written
+ * via POI's {@link SXSSFWorkbook}, so only a small window of rows is held in memory and workbooks with millions of
+ * cells can be generated.
+ * <p>
+ * Each worksheet starts with a command-header row, followed by the rows of the command (the header can be repeated
+ * every n rows). The value columns cycle through numbers, dates, strings, formulas (referencing the number of the
+ * same row) and nested (OGNL) keys like <code>list[0].name</code>. The default-command columns (comment, disabled,
+ * exception) are appended to each row. The content only depends on the settings, so the generated files are
+ * reproducible.
+ * </p>
+ * <p>
+ * <u>Attention:</u> the formulas are written without cached results, so they can only be read via the DOM reader
+ * (evaluating the formulas).
+ * </p>
+ *
+ * @author fabian
+ *
+ */
+public class WorkbookGenerator {
+
+	/**
+	 * number of rows held in memory while writing the workbook
+	 */
+	private static final int WINDOW_SIZE = 100;
+
+	private static final int KIND_NUMBER = 0;
+	private static final int KIND_DATE = 1;
+	private static final int KIND_STRING = 2;
+	private static final int KIND_FORMULA = 3;
+	private static final int KIND_NESTED = 4;
+	private static final int KINDS = 5;
+
+	private int sheets = 1;
+	private int rows = 100;
+	private int columns = KINDS;
+	private int headerEvery = 0;
+	private String command = "generated";
+
+	/**
+	 * Set the number of worksheets (default: 1).
+	 */
+	public WorkbookGenerator sheets(int sheets) {
+		this.sheets = sheets;
+		return this;
+	}
+
+	/**
+	 * Set the number of command rows per worksheet, without the header rows (default: 100).
+	 */
+	public WorkbookGenerator rows(int rows) {
+		this.rows = rows;
+		return this;
+	}
+
+	/**
+	 * Set the number of value columns, without the command and the default-command columns (default: 5, so each kind
+	 * of value is generated once).
+	 */
+	public WorkbookGenerator columns(int columns) {
+		this.columns = columns;
+		return this;
+	}
+
+	/**
+	 * Repeat the command-header every n command rows (default: 0, only one header per worksheet).
+	 */
+	public WorkbookGenerator headerEvery(int headerEvery) {
+		this.headerEvery = headerEvery;
+		return this;
+	}
+
+	/**
+	 * Set the name of the command of the rows (default: <i>generated</i>).
+	 */
+	public WorkbookGenerator command(String command) {
+		this.command = command;
+		return this;
+	}
+
+	/**
+	 * Get the keys of the values of the generated test-cases (in the order of the columns), incl. the default-command
+	 * columns.
+	 *
+	 * @return the keys of the values
+	 */
+	public List<String> getKeys() {
+		final List<String> keys = new ArrayList<>(columns + 3);
+		for (int j = 0; j < columns; j++) {
+			keys.add(getKey(j));
+		}
+		keys.add(JExUnitConfig.getDefaultCommandProperty(DefaultCommands.COMMENT));
+		keys.add(JExUnitConfig.getDefaultCommandProperty(DefaultCommands.DISABLED));
+		keys.add(JExUnitConfig.getDefaultCommandProperty(DefaultCommands.EXCEPTION_EXCPECTED));
+		return keys;
+	}
+
+	/**
+	 * Generate the workbook and write it to the given file.
+	 *
+	 * @param file
+	 *            the file to write the workbook to
+	 * @return the file written
+	 * @throws IOException
+	 *             in case that something goes wrong
+	 */
+	public File generate(File file) throws IOException {
+		final SXSSFWorkbook workbook = new SXSSFWorkbook(WINDOW_SIZE);
+		try {
+			final CellStyle dateStyle = workbook.createCellStyle();
+			dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd.mm.yyyy"));
+
+			final List<String> keys = getKeys();
+			for (int s = 0; s < sheets; s++) {
+				final Sheet sheet = workbook.createSheet("sheet" + (s + 1));
+				int r = 0;
+				for (int i = 0; i < rows; i++) {
+					if (i == 0 || (headerEvery > 0 && i % headerEvery == 0)) {
+						writeHeader(sheet.createRow(r++), keys);
+					}
+					writeRow(sheet.createRow(r++), i, dateStyle);
+				}
+			}
+
+			try (OutputStream out = new FileOutputStream(file)) {
+				workbook.write(out);
+			}
+		} finally {
+			// delete the temporary files of the rows flushed
+			workbook.dispose();
+		}
+		return file;
+	}
+
+	private void writeHeader(Row row, List<String> keys) {
+		row.createCell(0).setCellValue(JExUnitConfig.getStringProperty(JExUnitConfig.ConfigKey.COMMAND_STATEMENT));
+		for (int j = 0; j < keys.size(); j++) {
+			row.createCell(j + 1).setCellValue(keys.get(j));
+		}
+	}
+
+	private void writeRow(Row row, int i, CellStyle dateStyle) {
+		row.createCell(0).setCellValue(command);
+		for (int j = 0; j < columns; j++) {
+			final Cell cell = row.createCell(j + 1);
+			switch (j % KINDS) {
+			case KIND_NUMBER:
+				cell.setCellValue(i + j);
+				break;
+			case KIND_DATE:
+				cell.setCellValue(getDate(i).getTime());
+				cell.setCellStyle(dateStyle);
+				break;
+			case KIND_STRING:
+				cell.setCellValue("value " + i + "/" + j);
+				break;
+			case KIND_FORMULA:
+				// reference the number of the same "block" of columns
+				final String number = CellReference.convertNumToColString(j - KIND_FORMULA + 1);
+				cell.setCellFormula(number + (row.getRowNum() + 1) + "*2");
+				break;
+			case KIND_NESTED:
+			default:
+				cell.setCellValue("name " + i);
+				break;
+			}
+		}
+		row.createCell(columns + 1).setCellValue("row " + i);
+		row.createCell(columns + 2).setCellValue(false);
+		row.createCell(columns + 3).setCellValue(false);
+	}
+
+	private String getKey(int column) {
+		switch (column % KINDS) {
+		case KIND_NUMBER:
+			return "number" + column;
+		case KIND_DATE:
+			return "date" + column;
+		case KIND_STRING:
+			return "string" + column;
+		case KIND_FORMULA:
+			return "formula" + column;
+		case KIND_NESTED:
+		default:
+			return "list[" + column / KINDS + "].name";
+		}
+	}
+
+	/**
+	 * Get the date generated for the given row (see the date columns).
+	 *
+	 * @param i
+	 *            the number of the command row (starting with 0)
+	 * @return the date of the row
+	 */
+	public static Calendar getDate(int i) {
+		return new GregorianCalendar(2000 + i % 30, i % 12, 1 + i % 28);
+	}
+
+}
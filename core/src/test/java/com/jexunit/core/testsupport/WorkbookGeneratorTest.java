@@ -0,0 +1,49 @@
+package com.jexunit.core.testsupport;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.jexunit.core.dataprovider.ExcelLoader;
+import com.jexunit.core.model.TestCase;
+
+public class WorkbookGeneratorTest {
+
+	@ClassRule
+	public static TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void generate_readableByExcelLoader() throws Exception {
+		final WorkbookGenerator generator = new WorkbookGenerator().sheets(2).rows(250).columns(10).headerEvery(100)
+				.command("add");
+		final File file = generator.generate(folder.newFile("generated.xlsx"));
+
+		final Collection<Object[]> testData = ExcelLoader.loadTestData(file.getAbsolutePath(), true);
+		assertThat(testData.size(), is(2));
+		for (final Object[] sheet : testData) {
+			final List<TestCase<?>> testCases = (List<TestCase<?>>) sheet[0];
+			assertThat(testCases.size(), is(250));
+
+			final TestCase<?> testCase = testCases.get(120);
+			assertThat(testCase.getTestCommand(), is(equalTo("add")));
+			assertThat(new ArrayList<>(testCase.getValues().keySet()), is(equalTo(generator.getKeys())));
+			assertThat(testCase.getValues().get("number5").getTypedValue(), is(equalTo((Object) 125.0)));
+			assertThat(testCase.getValues().get("formula8").getTypedValue(), is(equalTo((Object) 250.0)));
+			assertThat(testCase.getValues().get("date1").getTypedValue(),
+					is(equalTo((Object) WorkbookGenerator.getDate(120).getTime())));
+			assertThat(testCase.getValues().get("list[1].name").getValue(), is(equalTo("name 120")));
+			assertThat(testCase.getComment(), is(equalTo("row 120")));
+		}
+	}
+
+}
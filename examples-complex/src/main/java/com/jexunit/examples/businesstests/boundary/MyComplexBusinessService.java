@@ -1,6 +1,7 @@
 package com.jexunit.examples.businesstests.boundary;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.jexunit.examples.businesstests.control.MyComplexBusinessController;
@@ -38,6 +39,13 @@ public class MyComplexBusinessService {
 		return entity;
 	}
 
+	public List<MyComplexBusinessEntity> saveAll(List<MyComplexBusinessEntity> entities) {
+		for (MyComplexBusinessEntity entity : entities) {
+			save(entity);
+		}
+		return entities;
+	}
+
 	public MyComplexBusinessEntity loadById(long id) {
 		return entities.get(id);
 	}
@@ -1,21 +1,24 @@
 package com.jexunit.examples.businesstests.commands;
 
+import java.util.List;
+
 import com.jexunit.core.commands.annotation.TestCommand;
 import com.jexunit.examples.businesstests.boundary.MyComplexBusinessService;
 import com.jexunit.examples.businesstests.entity.MyComplexBusinessEntity;
 
 /**
  * Test-Command implementation. This implements the test-command: CREATE. This command creates a new
- * entity out of the values set in the excel-file.
+ * entity out of the values set in the excel-file. Consecutive CREATE-rows are saved at once (batch
+ * command).
  * 
  * @author fabian
  * 
  */
 public class CreateTestCommand {
 
-	@TestCommand("create")
-	public void runCommand(MyComplexBusinessEntity entity) {
+	@TestCommand(value = "create", batch = true)
+	public void runCommand(List<MyComplexBusinessEntity> entities) {
 		MyComplexBusinessService service = MyComplexBusinessService.getInstance();
-		entity = service.save(entity);
+		service.saveAll(entities);
 	}
 }
@@ -0,0 +1,92 @@
+package com.jexunit.examples.arithmeticaltests;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+
+import com.jexunit.core.JExUnitBase;
+import com.jexunit.core.context.TestContext;
+import com.jexunit.core.context.TestContextManager;
+import com.jexunit.core.dataprovider.ExcelFile;
+import com.jexunit.core.junit.JExUnitConcurrency;
+import com.jexunit.core.model.TestCase;
+
+/**
+ * Test running the worksheets of the arithmetical tests concurrently (see {@link JExUnitConcurrency}). The test is run
+ * via {@link JUnitCore}, so the TestContexts of the worksheets and the events of the notifier can be checked.
+ * 
+ * @author fabian
+ * 
+ */
+public class ArithmeticalConcurrencyTest {
+
+	private static final List<TestContext> contexts = new CopyOnWriteArrayList<>();
+	private static final Set<String> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+	@JExUnitConcurrency(threads = 2)
+	public static class ConcurrentTest extends JExUnitBase {
+
+		@ExcelFile
+		static String excelFile = "src/test/resources/ArithmeticalTests.xlsx";
+
+		@Before
+		public void init() {
+			// the test (worksheet) is started on the thread of the scheduler
+			contexts.add(TestContextManager.getTestContext());
+			threads.add(Thread.currentThread().getName());
+		}
+
+		@Override
+		public void runCommand(TestCase<?> testCase) throws Exception {
+			ArithmeticalTestCommands.runCommand(testCase);
+		}
+	}
+
+	@Test
+	public void worksheetsRunConcurrently() {
+		final AtomicInteger started = new AtomicInteger();
+		final AtomicInteger finished = new AtomicInteger();
+		final JUnitCore core = new JUnitCore();
+		core.addListener(new RunListener() {
+
+			@Override
+			public void testStarted(final Description description) {
+				started.incrementAndGet();
+			}
+
+			@Override
+			public void testFinished(final Description description) {
+				finished.incrementAndGet();
+			}
+		});
+
+		final Result result = core.run(ConcurrentTest.class);
+
+		assertThat(result.wasSuccessful(), equalTo(true));
+		// each worksheet is a test
+		assertThat(result.getRunCount(), equalTo(3));
+		assertThat(started.get(), equalTo(3));
+		assertThat(finished.get(), equalTo(3));
+
+		// each worksheet runs with its own TestContext
+		assertThat(contexts.size(), equalTo(3));
+		assertThat(new HashSet<>(contexts).size(), equalTo(3));
+		for (final String thread : threads) {
+			assertThat(thread, thread.startsWith("jexunit-ConcurrentTest-"), equalTo(true));
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.jexunit.examples.arithmeticaltests;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+
+import com.jexunit.core.JExUnitBase;
+import com.jexunit.core.dataprovider.ExcelFile;
+import com.jexunit.core.junit.JExUnitLoadTest;
+import com.jexunit.core.model.TestCase;
+
+/**
+ * Test running the arithmetical tests as load test (see {@link JExUnitLoadTest}). The load test is run via
+ * {@link JUnitCore}, so the class-level befores and afters of the test-class can be checked.
+ * 
+ * @author fabian
+ * 
+ */
+public class ArithmeticalLoadTest {
+
+	private static final AtomicInteger beforeClass = new AtomicInteger();
+	private static final AtomicInteger afterClass = new AtomicInteger();
+
+	@JExUnitLoadTest(users = 2, iterations = 2)
+	public static class LoadTest extends JExUnitBase {
+
+		@ExcelFile
+		static String excelFile = "src/test/resources/ArithmeticalTests.xlsx";
+
+		@BeforeClass
+		public static void before() {
+			beforeClass.incrementAndGet();
+		}
+
+		@AfterClass
+		public static void after() {
+			afterClass.incrementAndGet();
+		}
+
+		@Override
+		public void runCommand(TestCase<?> testCase) throws Exception {
+			ArithmeticalTestCommands.runCommand(testCase);
+		}
+	}
+
+	@Test
+	public void loadTest_classLevelBeforesAndAfters() {
+		final Result result = JUnitCore.runClasses(LoadTest.class);
+
+		assertThat(result.getFailureCount(), equalTo(0));
+		assertThat(result.getIgnoreCount() > 0, equalTo(true));
+		assertThat(beforeClass.get(), equalTo(1));
+		assertThat(afterClass.get(), equalTo(1));
+	}
+}
@@ -0,0 +1,127 @@
+package com.jexunit.examples.masstests;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunListener;
+
+import com.jexunit.core.JExUnitBase;
+import com.jexunit.core.dataprovider.ExcelFile;
+
+/**
+ * Test for the descriptions of the rows of a mass test (each test-command runs as single test). The descriptions
+ * reported while running the rows have to match the descriptions of the runner (the tree shown by the IDE or build
+ * tool), also if the tests are filtered.
+ * 
+ * @author fabian
+ * 
+ */
+public class MassDescriptionTest {
+
+	/**
+	 * Test-class with two test methods per row, so the sorting of the test methods of the rows can be checked.
+	 */
+	public static class SortedTest extends JExUnitBase {
+
+		@ExcelFile
+		static String excelFile = "src/test/resources/MassTests.xlsx";
+
+		@Test
+		public void check() {
+			// nothing to check, only an additional test method per row
+		}
+	}
+
+	private static final Comparator<Description> BY_NAME = new Comparator<Description>() {
+
+		@Override
+		public int compare(final Description o1, final Description o2) {
+			return o1.getDisplayName().compareTo(o2.getDisplayName());
+		}
+	};
+
+	@Test
+	public void runningDescriptionsMatchTheRunner() {
+		final Runner runner = Request.aClass(MassTest.class).getRunner();
+		final List<Description> expected = new ArrayList<>();
+		collectTests(runner.getDescription(), expected);
+
+		final List<Description> started = new ArrayList<>();
+		final Result result = run(runner, started);
+
+		assertThat(result.getRunCount(), equalTo(expected.size()));
+		assertThat(started, equalTo(expected));
+	}
+
+	@Test
+	public void runningDescriptionsMatchTheFilteredRunner() {
+		final List<Description> tests = new ArrayList<>();
+		collectTests(Request.aClass(MassTest.class).getRunner().getDescription(), tests);
+		final Description test = tests.get(tests.size() / 2);
+
+		final Runner runner = Request.aClass(MassTest.class).filterWith(test).getRunner();
+		final List<Description> expected = new ArrayList<>();
+		collectTests(runner.getDescription(), expected);
+
+		final List<Description> started = new ArrayList<>();
+		run(runner, started);
+
+		assertThat(expected, equalTo(Collections.singletonList(test)));
+		assertThat(started, equalTo(expected));
+	}
+
+	@Test
+	public void runningDescriptionsMatchTheSortedRunner() {
+		for (final Comparator<Description> comparator : Arrays.asList(BY_NAME, Collections.reverseOrder(BY_NAME))) {
+			final Runner runner = Request.aClass(SortedTest.class).sortWith(comparator).getRunner();
+			final List<Description> expected = new ArrayList<>();
+			collectTests(runner.getDescription(), expected);
+
+			// the test methods of each row are sorted
+			for (final Description row : runner.getDescription().getChildren()) {
+				final List<Description> sorted = new ArrayList<>(row.getChildren());
+				Collections.sort(sorted, comparator);
+				assertThat(row.getChildren().size(), equalTo(2));
+				assertThat(row.getChildren(), equalTo(sorted));
+			}
+
+			final List<Description> started = new ArrayList<>();
+			run(runner, started);
+
+			assertThat(started, equalTo(expected));
+		}
+	}
+
+	private static Result run(final Runner runner, final List<Description> started) {
+		final JUnitCore core = new JUnitCore();
+		core.addListener(new RunListener() {
+
+			@Override
+			public void testStarted(final Description description) {
+				started.add(description);
+			}
+		});
+		return core.run(runner);
+	}
+
+	private static void collectTests(final Description description, final List<Description> tests) {
+		if (description.isTest()) {
+			tests.add(description);
+		}
+		for (final Description child : description.getChildren()) {
+			collectTests(child, tests);
+		}
+	}
+}
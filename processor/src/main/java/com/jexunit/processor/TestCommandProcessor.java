@@ -0,0 +1,142 @@
+package com.jexunit.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Annotation processor generating the index of the test commands (<i>META-INF/jexunit/commands.idx</i>) at compile
+ * time. So the <code>TestCommandScanner</code> doesn't have to scan the whole classpath for the test commands.
+ * <p>
+ * Each line of the index contains the kind of the annotated element (<code>type</code> or <code>method</code>) and the
+ * (binary) name of the class. On incremental compilation the existing index will be merged with the classes compiled.
+ * </p>
+ * <p>
+ * The processor is a module of its own (and refers to the annotations by name), so it is compiled before the core and
+ * looked up by javac on the classpath like any other annotation processor.
+ * </p>
+ *
+ * @author fabian
+ */
+public class TestCommandProcessor extends AbstractProcessor {
+
+    /**
+     * path of the index of the test commands
+     */
+    public static final String COMMAND_INDEX = "META-INF/jexunit/commands.idx";
+    /**
+     * kind of the index entries for classes annotated with <code>@TestCommand</code>
+     */
+    public static final String KIND_TYPE = "type";
+    /**
+     * kind of the index entries for classes with methods annotated with <code>@TestCommand</code>
+     */
+    public static final String KIND_METHOD = "method";
+
+    private static final String TEST_COMMAND = "com.jexunit.core.commands.annotation.TestCommand";
+    private static final String TEST_COMMANDS = TEST_COMMAND + ".TestCommands";
+
+    private final Set<String> entries = new LinkedHashSet<>();
+    // the classes compiled (the entries of these classes in an existing index will be replaced)
+    private final Set<String> compiledClasses = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(TEST_COMMAND, TEST_COMMANDS));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement) {
+                compiledClasses.add(binaryName((TypeElement) element));
+            }
+        }
+
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.METHOD) {
+                    entries.add(KIND_METHOD + " " + binaryName((TypeElement) element.getEnclosingElement()));
+                } else if (element.getKind().isClass()) {
+                    entries.add(KIND_TYPE + " " + binaryName((TypeElement) element));
+                }
+            }
+        }
+
+        if (roundEnv.processingOver() && !entries.isEmpty()) {
+            writeIndex();
+        }
+        // don't claim the annotations
+        return false;
+    }
+
+    private String binaryName(final TypeElement element) {
+        return processingEnv.getElementUtils().getBinaryName(element).toString();
+    }
+
+    private void writeIndex() {
+        final Set<String> index = new LinkedHashSet<>();
+        readExistingIndex(index);
+        index.addAll(entries);
+
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    COMMAND_INDEX);
+            try (final Writer writer = file.openWriter()) {
+                for (final String entry : index) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Could not write the index of the test commands: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read the index of a previous compilation (if any) and add the entries of the classes not compiled this time.
+     *
+     * @param index the set to add the entries to
+     */
+    private void readExistingIndex(final Set<String> index) {
+        try {
+            final FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+                    COMMAND_INDEX);
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(file.openInputStream(),
+                    StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String[] entry = line.trim().split(" ");
+                    if (entry.length == 2 && !compiledClasses.contains(entry[1])
+                            && processingEnv.getElementUtils().getTypeElement(entry[1].replace('$', '.')) != null) {
+                        index.add(line.trim());
+                    }
+                }
+            }
+        } catch (final IOException | IllegalArgumentException e) {
+            // there is no index yet
+        }
+    }
+
+}